@@ -0,0 +1,196 @@
+package com.testautomation.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Content hash of a class, the project classes it references (transitively)
+ * and the jars that provide its library dependencies.
+ * <p>
+ * References are read from the constant pool of each class file, so any change
+ * to the bytecode of the class or of a project class it uses yields a new hash.
+ * Library classes are identified by their jar location, which carries the version.
+ */
+public final class ClassFingerprint {
+
+    private static final Pattern DESCRIPTOR_CLASS = Pattern.compile("L([\\w/$]+);");
+
+    // Constant pool tags (JVMS 4.4)
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    private ClassFingerprint() {
+    }
+
+    /**
+     * Hex SHA-256 over the bytecode closure of the given class
+     */
+    public static String of(Class<?> testClass) throws IOException {
+        ClassLoader loader = testClass.getClassLoader();
+        SortedMap<String, byte[]> projectClasses = new TreeMap<>();
+        SortedSet<String> libraries = new TreeSet<>();
+
+        Deque<String> pending = new ArrayDeque<>();
+        pending.add(testClass.getName().replace('.', '/'));
+        Set<String> seen = new HashSet<>(pending);
+
+        while (!pending.isEmpty()) {
+            String internalName = pending.poll();
+            URL resource = loader.getResource(internalName + ".class");
+            if (resource == null) {
+                continue;
+            }
+
+            if ("file".equals(resource.getProtocol())) {
+                byte[] bytecode;
+                try (InputStream in = resource.openStream()) {
+                    bytecode = in.readAllBytes();
+                }
+                projectClasses.put(internalName, bytecode);
+                for (String reference : referencedClasses(bytecode)) {
+                    if (seen.add(reference)) {
+                        pending.add(reference);
+                    }
+                }
+            } else if ("jar".equals(resource.getProtocol())) {
+                // jar:file:/path/lib-1.0.jar!/pkg/Name.class
+                String location = resource.getPath();
+                int separator = location.indexOf("!/");
+                libraries.add(separator >= 0 ? location.substring(0, separator) : location);
+            }
+            // jrt: classes are covered by the Java version in the cache key
+        }
+
+        MessageDigest digest = sha256();
+        for (Map.Entry<String, byte[]> entry : projectClasses.entrySet()) {
+            digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+            digest.update(entry.getValue());
+        }
+        for (String library : libraries) {
+            digest.update(library.getBytes(StandardCharsets.UTF_8));
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Hex SHA-256 of the given parts, used to combine fingerprints with run parameters
+     */
+    public static String hash(Collection<String> parts) {
+        MessageDigest digest = sha256();
+        for (String part : parts) {
+            digest.update(part.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Internal names of all classes referenced from the constant pool,
+     * either directly or through field and method descriptors
+     */
+    public static Set<String> referencedClasses(byte[] bytecode) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytecode));
+        in.readInt(); // magic
+        in.readUnsignedShort(); // minor version
+        in.readUnsignedShort(); // major version
+        int count = in.readUnsignedShort();
+
+        String[] utf8 = new String[count];
+        List<Integer> classNameIndexes = new ArrayList<>();
+
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case CONSTANT_UTF8:
+                    utf8[i] = in.readUTF();
+                    break;
+                case CONSTANT_CLASS:
+                    classNameIndexes.add(in.readUnsignedShort());
+                    break;
+                case CONSTANT_STRING:
+                case CONSTANT_METHOD_TYPE:
+                case CONSTANT_MODULE:
+                case CONSTANT_PACKAGE:
+                    in.skipBytes(2);
+                    break;
+                case CONSTANT_METHOD_HANDLE:
+                    in.skipBytes(3);
+                    break;
+                case CONSTANT_INTEGER:
+                case CONSTANT_FLOAT:
+                case CONSTANT_FIELDREF:
+                case CONSTANT_METHODREF:
+                case CONSTANT_INTERFACE_METHODREF:
+                case CONSTANT_NAME_AND_TYPE:
+                case CONSTANT_DYNAMIC:
+                case CONSTANT_INVOKE_DYNAMIC:
+                    in.skipBytes(4);
+                    break;
+                case CONSTANT_LONG:
+                case CONSTANT_DOUBLE:
+                    in.skipBytes(8);
+                    i++; // takes two slots
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag + " at index " + i);
+            }
+        }
+
+        Set<String> references = new TreeSet<>();
+        for (int index : classNameIndexes) {
+            String name = utf8[index];
+            if (name != null && !name.startsWith("[")) {
+                references.add(name);
+            }
+        }
+        for (String value : utf8) {
+            if (value != null && (value.startsWith("(") || value.startsWith("L") || value.startsWith("["))) {
+                Matcher matcher = DESCRIPTOR_CLASS.matcher(value);
+                while (matcher.find()) {
+                    references.add(matcher.group(1));
+                }
+            }
+        }
+        return references;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,110 @@
+package com.testautomation.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * On-disk store of passing test durations, one properties file per cache key.
+ * <p>
+ * Each entry maps a test method name to the duration (ms) of its last passing run.
+ * Reading an entry refreshes its modification time, and writing evicts the least
+ * recently used entries beyond the configured maximum.
+ */
+public class ResultCache {
+
+    private static final String ENTRY_SUFFIX = ".properties";
+
+    private final Path directory;
+    private final int maxEntries;
+
+    public ResultCache(Path directory, int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.directory = directory;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Passing method durations stored under the key, empty when there is no entry
+     */
+    public Map<String, Long> read(String key) {
+        Path entry = entryPath(key);
+        if (!Files.isRegularFile(entry)) {
+            return Collections.emptyMap();
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(entry)) {
+            properties.load(in);
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Ignoring unreadable test result cache entry " + entry + ": " + e.getMessage());
+            return Collections.emptyMap();
+        }
+
+        Map<String, Long> durations = new TreeMap<>();
+        for (String method : properties.stringPropertyNames()) {
+            try {
+                durations.put(method, Long.parseLong(properties.getProperty(method)));
+            } catch (NumberFormatException e) {
+                // Corrupt line, the method simply runs again
+            }
+        }
+        return durations;
+    }
+
+    /**
+     * Replace the entry for the key and evict least recently used entries
+     */
+    public void write(String key, Map<String, Long> durations) throws IOException {
+        Files.createDirectories(directory);
+        Path entry = entryPath(key);
+        if (durations.isEmpty()) {
+            Files.deleteIfExists(entry);
+            return;
+        }
+
+        Properties properties = new Properties();
+        durations.forEach((method, duration) -> properties.setProperty(method, Long.toString(duration)));
+
+        // Write to a temporary file first so a crashed run never leaves a partial entry
+        Path temporary = Files.createTempFile(directory, key, ".tmp");
+        try (OutputStream out = Files.newOutputStream(temporary)) {
+            properties.store(out, "Passing test durations (ms)");
+        }
+        Files.move(temporary, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        evict();
+    }
+
+    private void evict() throws IOException {
+        List<Path> entries;
+        try (Stream<Path> files = Files.list(directory)) {
+            entries = files.filter(file -> file.getFileName().toString().endsWith(ENTRY_SUFFIX))
+                    .collect(Collectors.toList());
+        }
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+
+        Map<Path, FileTime> lastUsed = new HashMap<>();
+        for (Path file : entries) {
+            lastUsed.put(file, Files.getLastModifiedTime(file));
+        }
+        entries.sort(Comparator.comparing(lastUsed::get));
+        for (Path file : entries.subList(0, entries.size() - maxEntries)) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private Path entryPath(String key) {
+        return directory.resolve(key + ENTRY_SUFFIX);
+    }
+}
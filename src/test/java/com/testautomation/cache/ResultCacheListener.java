@@ -0,0 +1,232 @@
+package com.testautomation.cache;
+
+import com.testautomation.property.PropertyRunner;
+import org.testng.*;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * TestNG listener that skips test methods whose last run passed against identical code.
+ * <p>
+ * The cache key of a test class combines the {@link ClassFingerprint} of its bytecode
+ * and dependencies, the Java version, the parameters and parallel mode of the
+ * {@code <test>} and the {@code property.*} and {@code concurrency.*} system properties.
+ * Methods with a passing result under the same key are removed from the run and
+ * reported as cached with their original duration.
+ * Classes using {@code dependsOnMethods} or {@code dependsOnGroups} always run, and so
+ * do methods in the {@code property} group unless {@code property.seed} is set, since
+ * each of their runs explores new random cases.
+ * <p>
+ * Configuration (system properties):
+ * <ul>
+ *     <li>{@code test.cache} - enable the cache (default true)</li>
+ *     <li>{@code test.cache.force} - run every test and refresh the cache (default false)</li>
+ *     <li>{@code test.cache.dir} - cache directory (default target/test-result-cache)</li>
+ *     <li>{@code test.cache.max.entries} - entries kept before LRU eviction (default 500)</li>
+ * </ul>
+ */
+public class ResultCacheListener implements IMethodInterceptor, ITestListener, ISuiteListener {
+
+    public static final String ENABLED_PROPERTY = "test.cache";
+    public static final String FORCE_PROPERTY = "test.cache.force";
+    public static final String DIRECTORY_PROPERTY = "test.cache.dir";
+    public static final String MAX_ENTRIES_PROPERTY = "test.cache.max.entries";
+
+    private static final String DEFAULT_DIRECTORY = "target/test-result-cache";
+    private static final int DEFAULT_MAX_ENTRIES = 500;
+    private static final String PROPERTY_GROUP = "property";
+    private static final List<String> KEYED_PROPERTY_PREFIXES = Arrays.asList("property.", "concurrency.");
+
+    private static final Queue<CachedResult> CACHED_RESULTS = new ConcurrentLinkedQueue<>();
+
+    private final ResultCache cache;
+    private final Queue<CachedResult> cachedResults;
+    private final boolean enabled;
+    private final boolean force;
+    private final boolean seedFixed;
+
+    // "<test name>#<class name>" -> cache key
+    private final Map<String, String> keys = new ConcurrentHashMap<>();
+    // cache key -> durations stored by previous runs
+    private final Map<String, Map<String, Long>> stored = new ConcurrentHashMap<>();
+    // cache key -> durations of methods that passed in this run
+    private final Map<String, Map<String, Long>> passed = new ConcurrentHashMap<>();
+    // cache key -> methods that failed or were skipped in this run
+    private final Map<String, Set<String>> failed = new ConcurrentHashMap<>();
+
+    public ResultCacheListener() {
+        this(new ResultCache(Paths.get(System.getProperty(DIRECTORY_PROPERTY, DEFAULT_DIRECTORY)),
+                Integer.getInteger(MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES)), CACHED_RESULTS,
+                isEnabled(), Boolean.getBoolean(FORCE_PROPERTY), System.getProperty(PropertyRunner.SEED_PROPERTY) != null);
+    }
+
+    /**
+     * Listener storing results in {@code cache} and recording replayed methods into {@code cachedResults},
+     * configured explicitly instead of from system properties
+     *
+     * @param force     run every method and refresh the cache
+     * @param seedFixed property tests run with a fixed seed and may be replayed
+     */
+    public ResultCacheListener(ResultCache cache, Queue<CachedResult> cachedResults,
+                               boolean enabled, boolean force, boolean seedFixed) {
+        this.cache = cache;
+        this.cachedResults = cachedResults;
+        this.enabled = enabled;
+        this.force = force;
+        this.seedFixed = seedFixed;
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+    }
+
+    /**
+     * Test methods replayed from the cache instead of executed
+     */
+    public static List<CachedResult> getCachedResults() {
+        return new ArrayList<>(CACHED_RESULTS);
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!enabled) {
+            return methods;
+        }
+
+        Set<Class<?>> uncacheable = new HashSet<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            if (method.getMethodsDependedUpon().length > 0 || method.getGroupsDependedUpon().length > 0) {
+                uncacheable.add(method.getRealClass());
+            }
+        }
+
+        List<IMethodInstance> toRun = new ArrayList<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            String key = uncacheable.contains(method.getRealClass()) ? null : cacheKey(context, method.getRealClass());
+            if (key == null || !isReplayable(method)) {
+                toRun.add(instance);
+                continue;
+            }
+
+            Long duration = stored.computeIfAbsent(key, cache::read).get(method.getMethodName());
+            if (force || duration == null) {
+                toRun.add(instance);
+            } else {
+                cachedResults.add(new CachedResult(method, duration));
+            }
+        }
+        return toRun;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        String key = keyOf(result);
+        if (key != null && isReplayable(result.getMethod())) {
+            passed.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+                    .merge(result.getMethod().getMethodName(), result.getEndMillis() - result.getStartMillis(), Long::sum);
+        }
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        markFailed(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        markFailed(result);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        markFailed(result);
+    }
+
+    @Override
+    public void onTestFailedWithTimeout(ITestResult result) {
+        markFailed(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Set<String> touched = new HashSet<>(passed.keySet());
+        touched.addAll(failed.keySet());
+
+        for (String key : touched) {
+            Map<String, Long> entry = new TreeMap<>(stored.getOrDefault(key, Collections.emptyMap()));
+            entry.putAll(passed.getOrDefault(key, Collections.emptyMap()));
+            entry.keySet().removeAll(failed.getOrDefault(key, Collections.emptySet()));
+            try {
+                cache.write(key, entry);
+            } catch (IOException e) {
+                System.err.println("Error writing test result cache: " + e.getMessage());
+            }
+        }
+        passed.clear();
+        failed.clear();
+    }
+
+    private void markFailed(ITestResult result) {
+        String key = keyOf(result);
+        if (key != null) {
+            failed.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(result.getMethod().getMethodName());
+        }
+    }
+
+    /**
+     * Property-based tests with a random seed check different cases on every run
+     */
+    private boolean isReplayable(ITestNGMethod method) {
+        return seedFixed
+                || !Arrays.asList(method.getGroups()).contains(PROPERTY_GROUP);
+    }
+
+    private String keyOf(ITestResult result) {
+        return keys.get(result.getTestContext().getName() + "#" + result.getMethod().getRealClass().getName());
+    }
+
+    private String cacheKey(ITestContext context, Class<?> testClass) {
+        return keys.computeIfAbsent(context.getName() + "#" + testClass.getName(), id -> {
+            try {
+                List<String> parts = new ArrayList<>();
+                parts.add(testClass.getName());
+                parts.add(ClassFingerprint.of(testClass));
+                parts.add("java " + System.getProperty("java.version"));
+                parts.add("parameters " + new TreeMap<>(context.getCurrentXmlTest().getAllParameters()));
+                // A pass in a sequential run says nothing about thread safety under parallel=methods
+                parts.add("parallel " + context.getCurrentXmlTest().getParallel()
+                        + " threads " + context.getCurrentXmlTest().getThreadCount());
+                for (String name : new TreeSet<>(System.getProperties().stringPropertyNames())) {
+                    if (KEYED_PROPERTY_PREFIXES.stream().anyMatch(name::startsWith)) {
+                        parts.add(name + "=" + System.getProperty(name));
+                    }
+                }
+                return ClassFingerprint.hash(parts);
+            } catch (IOException e) {
+                System.err.println("Test result cache disabled for " + testClass.getName() + ": " + e.getMessage());
+                return null;
+            }
+        });
+    }
+
+    // Inner class for data structure
+    public static class CachedResult {
+        private final ITestNGMethod method;
+        private final long duration;
+
+        public CachedResult(ITestNGMethod method, long duration) {
+            this.method = method;
+            this.duration = duration;
+        }
+
+        public ITestNGMethod getMethod() { return method; }
+
+        public long getDuration() { return duration; }
+    }
+}
@@ -0,0 +1,215 @@
+package com.testautomation.concurrency;
+
+import org.testng.*;
+import org.testng.xml.XmlSuite;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Opt-in TestNG listener that adapts the number of concurrently running test methods.
+ * <p>
+ * TestNG sizes its worker pool once per suite, so the suite pool is set to the upper
+ * bound and every test method must take a permit from an {@link AdaptiveLimiter}
+ * before it runs. The permit is taken by the first {@code @BeforeMethod} of the
+ * invocation, so per-test setup such as opening a browser session is limited too, and
+ * released when the test method returns. {@code @AfterMethod} methods run after the
+ * release: TestNG reports the test result before them, so the last one cannot be told
+ * apart, and holding the permit past it would leak it. A {@link ConcurrencyController} resizes the limiter at runtime
+ * (AIMD) from CPU load, test latency inflation and GC time.
+ * <p>
+ * Latency inflation compares each test method with its own baseline latency. Most
+ * methods run once per suite, so baselines are saved at the end of a run and loaded
+ * at the start of the next; the first run adapts on CPU load and GC time only.
+ * <p>
+ * Configuration (system properties):
+ * <ul>
+ *     <li>{@code concurrency.adaptive} - enable the listener (default false)</li>
+ *     <li>{@code concurrency.min} - lower bound (default 1)</li>
+ *     <li>{@code concurrency.max} - upper bound and TestNG thread-count (default 2 x processors)</li>
+ *     <li>{@code concurrency.initial} - starting limit (default: processors)</li>
+ *     <li>{@code concurrency.interval.ms} - sampling interval (default 250)</li>
+ *     <li>{@code concurrency.baselines} - baseline latency file (default target/concurrency-baselines.properties)</li>
+ * </ul>
+ */
+public class AdaptiveConcurrencyListener implements IAlterSuiteListener, IExecutionListener, IInvokedMethodListener {
+
+    public static final String ENABLED_PROPERTY = "concurrency.adaptive";
+    public static final String MIN_PROPERTY = "concurrency.min";
+    public static final String MAX_PROPERTY = "concurrency.max";
+    public static final String INITIAL_PROPERTY = "concurrency.initial";
+    public static final String INTERVAL_PROPERTY = "concurrency.interval.ms";
+    public static final String BASELINES_PROPERTY = "concurrency.baselines";
+
+    private static final long DEFAULT_INTERVAL_MS = 250;
+    private static final String DEFAULT_BASELINES = "target/concurrency-baselines.properties";
+    // A test method and its @BeforeMethod methods run on the same worker thread
+    private static final ThreadLocal<Permit> HELD = new ThreadLocal<>();
+
+    // Limiter and controller of the current execution, shared by every listener instance
+    private static volatile Run run;
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * Concurrency limit over time for the current run, empty when disabled
+     */
+    public static List<ConcurrencySample> getHistory() {
+        Run current = run;
+        return current != null ? current.controller.getHistory() : Collections.emptyList();
+    }
+
+    private static int maxConcurrency() {
+        return Integer.getInteger(MAX_PROPERTY, 2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!isEnabled()) {
+            return;
+        }
+        for (XmlSuite suite : suites) {
+            if (suite.getParallel() == null || suite.getParallel() == XmlSuite.ParallelMode.NONE) {
+                suite.setParallel(XmlSuite.ParallelMode.METHODS);
+            }
+            suite.setThreadCount(maxConcurrency());
+        }
+    }
+
+    @Override
+    public void onExecutionStart() {
+        if (!isEnabled()) {
+            return;
+        }
+        int min = Integer.getInteger(MIN_PROPERTY, 1);
+        int max = maxConcurrency();
+        int initial = Integer.getInteger(INITIAL_PROPERTY, Runtime.getRuntime().availableProcessors());
+
+        AdaptiveLimiter limiter = new AdaptiveLimiter(Math.max(min, Math.min(max, initial)));
+        ConcurrencyController controller = new ConcurrencyController(limiter, min, max,
+                Long.getLong(INTERVAL_PROPERTY, DEFAULT_INTERVAL_MS));
+        controller.loadBaselines(readBaselines(baselinesFile()));
+        run = new Run(limiter, controller);
+        controller.start();
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        Run current = run;
+        if (current != null) {
+            current.controller.stop();
+            writeBaselines(baselinesFile(), current.controller.getBaselines());
+        }
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        Run current = run;
+        if (current == null
+                || !(method.isTestMethod() || method.getTestMethod().isBeforeMethodConfiguration())) {
+            return;
+        }
+        Permit permit = HELD.get();
+        if (permit == null) {
+            try {
+                current.limiter.acquire();
+            } catch (InterruptedException e) {
+                // Run without a permit rather than failing the test
+                Thread.currentThread().interrupt();
+                return;
+            }
+            permit = new Permit(current);
+            HELD.set(permit);
+        }
+        if (method.isTestMethod()) {
+            permit.startNanos = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        Permit permit = HELD.get();
+        // Skipped tests are invoked too, so every permit is released here
+        if (permit == null || !method.isTestMethod()) {
+            return;
+        }
+        HELD.remove();
+        // Release to the run the permit was taken from
+        Run owner = permit.run;
+        owner.controller.recordLatency(testResult.getMethod().getQualifiedName(),
+                System.nanoTime() - permit.startNanos);
+        owner.limiter.release();
+    }
+
+    private static Path baselinesFile() {
+        return Paths.get(System.getProperty(BASELINES_PROPERTY, DEFAULT_BASELINES));
+    }
+
+    private static Map<String, Double> readBaselines(Path file) {
+        Map<String, Double> baselines = new TreeMap<>();
+        if (!Files.isRegularFile(file)) {
+            return baselines;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Ignoring unreadable concurrency baselines " + file + ": " + e.getMessage());
+            return baselines;
+        }
+        for (String method : properties.stringPropertyNames()) {
+            try {
+                baselines.put(method, Double.parseDouble(properties.getProperty(method)));
+            } catch (NumberFormatException e) {
+                // Corrupt line, the method learns a new baseline
+            }
+        }
+        return baselines;
+    }
+
+    private static void writeBaselines(Path file, Map<String, Double> baselines) {
+        Properties properties = new Properties();
+        baselines.forEach((method, nanos) -> properties.setProperty(method, Long.toString(Math.round(nanos))));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (OutputStream out = Files.newOutputStream(file)) {
+                properties.store(out, "Baseline test latency (ns)");
+            }
+        } catch (IOException e) {
+            System.err.println("Error writing concurrency baselines: " + e.getMessage());
+        }
+    }
+
+    private static final class Run {
+        private final AdaptiveLimiter limiter;
+        private final ConcurrencyController controller;
+
+        Run(AdaptiveLimiter limiter, ConcurrencyController controller) {
+            this.limiter = limiter;
+            this.controller = controller;
+        }
+    }
+
+    private static final class Permit {
+        private final Run run;
+        // Start of the test method, latency excludes its @BeforeMethod methods
+        private long startNanos;
+
+        Permit(Run run) {
+            this.run = run;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.testautomation.concurrency;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Permit gate whose limit can be raised or lowered while permits are held.
+ * Lowering the limit never interrupts running work, it only holds back new
+ * acquisitions until enough permits have been released.
+ */
+public class AdaptiveLimiter {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private int limit;
+    private int active;
+    private int waiting;
+    private boolean contended;
+
+    public AdaptiveLimiter(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+        this.limit = limit;
+    }
+
+    public void acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            if (active >= limit) {
+                contended = true;
+            }
+            waiting++;
+            try {
+                while (active >= limit) {
+                    released.await();
+                }
+            } finally {
+                waiting--;
+            }
+            active++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release() {
+        lock.lock();
+        try {
+            if (active == 0) {
+                throw new IllegalStateException("release() without a matching acquire()");
+            }
+            active--;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void setLimit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+        lock.lock();
+        try {
+            this.limit = limit;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getActive() {
+        lock.lock();
+        try {
+            return active;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Whether work queued behind the limit since the last call, i.e. more
+     * concurrency would have been used
+     */
+    public boolean pollContended() {
+        lock.lock();
+        try {
+            boolean result = contended || waiting > 0;
+            contended = false;
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
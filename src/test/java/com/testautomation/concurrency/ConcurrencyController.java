@@ -0,0 +1,204 @@
+package com.testautomation.concurrency;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AIMD controller for the concurrency limit of an {@link AdaptiveLimiter}.
+ * <p>
+ * Every interval it samples CPU load, the latency inflation of completed tests
+ * and the share of time spent in GC. Each test method is compared with its own
+ * baseline latency, so fast unit tests and slow browser tests can be mixed; the
+ * inflation of an interval is the geometric mean of these ratios. A baseline
+ * follows faster runs quickly and slower runs slowly, so it tracks the method's
+ * uncontended latency and re-learns it after the method changes.
+ * <p>
+ * Latency inflation or GC pressure cut the limit multiplicatively. Otherwise,
+ * if tests were queued behind the limit, it grows by one unless the CPU is
+ * already saturated, in which case more threads would only add contention.
+ */
+public class ConcurrencyController {
+
+    static final double CPU_LOAD_LIMIT = 0.9;
+    static final double LATENCY_INFLATION_LIMIT = 1.5;
+    static final double GC_FRACTION_LIMIT = 0.1;
+    static final double DECREASE_FACTOR = 0.5;
+    static final double BASELINE_DECREASE_WEIGHT = 0.5;
+    static final double BASELINE_INCREASE_WEIGHT = 0.1;
+    // Below a millisecond, timer and scheduling noise dominate any contention
+    static final long MIN_MEASURED_NANOS = 1_000_000L;
+
+    private final AdaptiveLimiter limiter;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long intervalMillis;
+
+    private final Map<String, Double> baselineNanos = new ConcurrentHashMap<>();
+    private final DoubleAdder logInflation = new DoubleAdder();
+    private final LongAdder inflationCount = new LongAdder();
+    private final List<ConcurrencySample> history = Collections.synchronizedList(new ArrayList<>());
+
+    private ScheduledExecutorService scheduler;
+    private long startNanos;
+    private long lastGcMillis;
+    private long lastSampleNanos;
+
+    public ConcurrencyController(AdaptiveLimiter limiter, int minLimit, int maxLimit, long intervalMillis) {
+        if (minLimit <= 0 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Invalid concurrency bounds [" + minLimit + ", " + maxLimit + "]");
+        }
+        this.limiter = limiter;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.intervalMillis = intervalMillis;
+        this.startNanos = System.nanoTime();
+        limiter.setLimit(Math.max(minLimit, Math.min(maxLimit, limiter.getLimit())));
+    }
+
+    public synchronized void start() {
+        startNanos = System.nanoTime();
+        lastSampleNanos = startNanos;
+        lastGcMillis = totalGcMillis();
+        history.add(new ConcurrencySample(0, limiter.getLimit(), Double.NaN, Double.NaN, 0, "initial"));
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "adaptive-concurrency-controller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::tick, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Record the wall-clock duration of a completed test method. The first
+     * completion of a method without a baseline only establishes it.
+     */
+    public void recordLatency(String method, long nanos) {
+        double measured = Math.max(MIN_MEASURED_NANOS, nanos);
+        baselineNanos.compute(method, (name, baseline) -> {
+            if (baseline == null) {
+                return measured;
+            }
+            logInflation.add(Math.log(measured / baseline));
+            inflationCount.increment();
+            double weight = measured < baseline ? BASELINE_DECREASE_WEIGHT : BASELINE_INCREASE_WEIGHT;
+            return baseline + weight * (measured - baseline);
+        });
+    }
+
+    /**
+     * Baseline latency (ns) per test method, to carry over to the next run
+     */
+    public Map<String, Double> getBaselines() {
+        return new TreeMap<>(baselineNanos);
+    }
+
+    /**
+     * Start from baselines learned in an earlier run
+     */
+    public void loadBaselines(Map<String, Double> baselines) {
+        baselines.forEach((method, nanos) -> {
+            if (nanos > 0) {
+                baselineNanos.put(method, Math.max(MIN_MEASURED_NANOS, nanos));
+            }
+        });
+    }
+
+    /**
+     * Samples at which the limit changed, starting with the initial limit
+     */
+    public List<ConcurrencySample> getHistory() {
+        synchronized (history) {
+            return new ArrayList<>(history);
+        }
+    }
+
+    private synchronized void tick() {
+        long now = System.nanoTime();
+        long gcMillis = totalGcMillis();
+        double elapsedMillis = Math.max(1, (now - lastSampleNanos) / 1_000_000.0);
+        double gcFraction = (gcMillis - lastGcMillis) / elapsedMillis;
+        lastGcMillis = gcMillis;
+        lastSampleNanos = now;
+
+        sample(cpuLoad(), gcFraction);
+    }
+
+    /**
+     * Apply one AIMD step using the latencies recorded since the previous sample
+     */
+    public synchronized int sample(double cpuLoad, double gcFraction) {
+        long count = inflationCount.sumThenReset();
+        double sumOfLogs = logInflation.sumThenReset();
+        double latencyInflation = count > 0 ? Math.exp(sumOfLogs / count) : Double.NaN;
+        return adjust(cpuLoad, latencyInflation, gcFraction, limiter.pollContended());
+    }
+
+    /**
+     * Apply one AIMD step for the given measurements and return the new limit
+     */
+    public synchronized int adjust(double cpuLoad, double latencyInflation, double gcFraction, boolean contended) {
+        int current = limiter.getLimit();
+        int next = current;
+        String reason = null;
+
+        if (latencyInflation > LATENCY_INFLATION_LIMIT) {
+            reason = String.format("latency x%.1f", latencyInflation);
+        } else if (gcFraction > GC_FRACTION_LIMIT) {
+            reason = String.format("GC time %.0f%%", gcFraction * 100);
+        }
+
+        if (reason != null) {
+            next = Math.max(minLimit, (int) Math.floor(current * DECREASE_FACTOR));
+        } else if (contended && !(cpuLoad > CPU_LOAD_LIMIT)) {
+            next = Math.min(maxLimit, current + 1);
+            reason = "tests queued";
+        }
+
+        if (next != current) {
+            limiter.setLimit(next);
+            long elapsed = (System.nanoTime() - startNanos) / 1_000_000L;
+            history.add(new ConcurrencySample(elapsed, next, cpuLoad, latencyInflation, gcFraction, reason));
+        }
+        return next;
+    }
+
+    private static double cpuLoad() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            double load = ((com.sun.management.OperatingSystemMXBean) os).getCpuLoad();
+            if (load >= 0) {
+                return load;
+            }
+        }
+        double loadAverage = os.getSystemLoadAverage();
+        return loadAverage >= 0 ? loadAverage / os.getAvailableProcessors() : Double.NaN;
+    }
+
+    private static long totalGcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,35 @@
+package com.testautomation.concurrency;
+
+/**
+ * A change of the concurrency limit and the measurements that caused it
+ */
+public class ConcurrencySample {
+    private final long elapsedMillis;
+    private final int limit;
+    private final double cpuLoad;
+    private final double latencyInflation;
+    private final double gcFraction;
+    private final String reason;
+
+    public ConcurrencySample(long elapsedMillis, int limit, double cpuLoad, double latencyInflation,
+                             double gcFraction, String reason) {
+        this.elapsedMillis = elapsedMillis;
+        this.limit = limit;
+        this.cpuLoad = cpuLoad;
+        this.latencyInflation = latencyInflation;
+        this.gcFraction = gcFraction;
+        this.reason = reason;
+    }
+
+    public long getElapsedMillis() { return elapsedMillis; }
+
+    public int getLimit() { return limit; }
+
+    public double getCpuLoad() { return cpuLoad; }
+
+    public double getLatencyInflation() { return latencyInflation; }
+
+    public double getGcFraction() { return gcFraction; }
+
+    public String getReason() { return reason; }
+}
@@ -0,0 +1,76 @@
+package com.testautomation.fixtures;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Definition of a shared fixture: how to build it, how to hand it out and how to tear it down.
+ * <p>
+ * Without a copier the fixture is read-only and every caller receives the same instance.
+ * With a copier the cached instance is kept as a master and each caller gets its own copy.
+ * Fixtures declaring a size count towards the registry memory budget and may be evicted
+ * unless they have a teardown; fixtures with unknown size (0) or a teardown are never
+ * evicted before their scope ends, where the teardown runs.
+ *
+ * @param <T> type of the fixture value
+ */
+public class Fixture<T> {
+    private final String name;
+    private final FixtureScope scope;
+    private final Callable<T> factory;
+    private final Consumer<T> teardown;
+    private final ToLongFunction<T> sizeEstimator;
+    private final UnaryOperator<T> copier;
+
+    /**
+     * Read-only fixture without teardown or size estimate
+     */
+    public Fixture(String name, FixtureScope scope, Callable<T> factory) {
+        this(name, scope, factory, null, null, null);
+    }
+
+    public Fixture(String name, FixtureScope scope, Callable<T> factory, Consumer<T> teardown,
+                   ToLongFunction<T> sizeEstimator, UnaryOperator<T> copier) {
+        if (name == null || scope == null || factory == null) {
+            throw new IllegalArgumentException("Fixture name, scope and factory are required");
+        }
+        this.name = name;
+        this.scope = scope;
+        this.factory = factory;
+        this.teardown = teardown;
+        this.sizeEstimator = sizeEstimator;
+        this.copier = copier;
+    }
+
+    public String getName() { return name; }
+
+    public FixtureScope getScope() { return scope; }
+
+    public boolean isReadOnly() {
+        return copier == null;
+    }
+
+    public boolean hasTeardown() {
+        return teardown != null;
+    }
+
+    T create() throws Exception {
+        return factory.call();
+    }
+
+    T share(T value) {
+        return copier == null ? value : copier.apply(value);
+    }
+
+    long estimateSize(T value) {
+        return sizeEstimator == null ? 0 : Math.max(0, sizeEstimator.applyAsLong(value));
+    }
+
+    void tearDown(T value) {
+        if (teardown != null) {
+            teardown.accept(value);
+        }
+    }
+}
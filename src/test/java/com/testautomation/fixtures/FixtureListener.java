@@ -0,0 +1,84 @@
+package com.testautomation.fixtures;
+
+import org.testng.*;
+
+/**
+ * TestNG listener that ends the fixture leases of finished test and configuration
+ * methods and tears down shared fixtures of a {@link FixtureRegistry} at the end of
+ * their class, test or suite scope
+ */
+public class FixtureListener implements IClassListener, ITestListener, IConfigurationListener, ISuiteListener,
+        IExecutionListener {
+
+    private final FixtureRegistry registry;
+
+    public FixtureListener() {
+        this(FixtureRegistry.getDefault());
+    }
+
+    /**
+     * Listener managing the given registry instead of the default one
+     */
+    public FixtureListener(FixtureRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        registry.release(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        registry.release(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        registry.release(result);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        registry.release(result);
+    }
+
+    @Override
+    public void onConfigurationSuccess(ITestResult result) {
+        registry.release(result);
+    }
+
+    @Override
+    public void onConfigurationFailure(ITestResult result) {
+        registry.release(result);
+    }
+
+    @Override
+    public void onConfigurationSkip(ITestResult result) {
+        registry.release(result);
+    }
+
+    @Override
+    public void onAfterClass(ITestClass testClass) {
+        registry.closeScope(FixtureScope.CLASS, FixtureScope.CLASS.scopeId(
+                testClass.getXmlTest().getSuite().getName(), testClass.getXmlTest().getName(), testClass.getName()));
+    }
+
+    @Override
+    public void onFinish(ITestContext context) {
+        registry.closeScope(FixtureScope.TEST, FixtureScope.TEST.scopeId(
+                context.getSuite().getName(), context.getName(), null));
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        registry.closeScope(FixtureScope.SUITE, FixtureScope.SUITE.scopeId(
+                suite.getName(), null, null));
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        // Fixtures requested outside a running test have no scope to end with
+        registry.closeAll();
+    }
+}
@@ -0,0 +1,282 @@
+package com.testautomation.fixtures;
+
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry of shared fixtures, built lazily and reused within their scope.
+ * <p>
+ * The first caller in a scope instance builds the fixture while concurrent callers
+ * wait for that single build (single-flight). Fixtures with a size estimate are
+ * evicted least recently used first when their total exceeds the memory budget.
+ * {@link FixtureListener} tears fixtures down when their scope ends.
+ * <p>
+ * A read-only fixture handed to a running test or configuration method is leased
+ * until that method finishes and is not evicted meanwhile, since evicting it would
+ * free nothing. An evicted fixture is only forgotten, so the next caller rebuilds it.
+ * Fixtures with a teardown are never evicted: callers without a lease may still use
+ * them, so only the end of their scope may tear them down, and keeping evicted
+ * instances until then would hold their memory outside the budget.
+ * <p>
+ * Fixture names identify fixtures in the report, so a registry accepts only one
+ * fixture definition per name.
+ * <p>
+ * Configuration (system properties):
+ * <ul>
+ *     <li>{@code fixtures.memory.budget.mb} - budget of the default registry (default 256)</li>
+ * </ul>
+ */
+public class FixtureRegistry {
+
+    public static final String BUDGET_PROPERTY = "fixtures.memory.budget.mb";
+
+    private static final long DEFAULT_BUDGET_MB = 256;
+    private static final String UNSCOPED = "unscoped";
+
+    private static final FixtureRegistry DEFAULT =
+            new FixtureRegistry(Long.getLong(BUDGET_PROPERTY, DEFAULT_BUDGET_MB) * 1024 * 1024);
+
+    private final long budgetBytes;
+    private final Map<Key, Entry<?>> entries = new ConcurrentHashMap<>();
+    private final Map<String, Fixture<?>> definitions = new ConcurrentHashMap<>();
+    private final Map<String, FixtureStats> stats = new ConcurrentHashMap<>();
+    // Read-only entries handed to running methods, released when the method finishes
+    private final Map<ITestResult, Queue<Entry<?>>> leases = new ConcurrentHashMap<>();
+
+    public FixtureRegistry(long budgetBytes) {
+        if (budgetBytes <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive: " + budgetBytes);
+        }
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Registry used by tests and torn down by {@link FixtureListener}
+     */
+    public static FixtureRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Fixture for the scope instance of the currently running test or configuration
+     * method, leased to that method until {@link #release} when it is read-only
+     */
+    public <T> T get(Fixture<T> fixture) {
+        ITestResult current = Reporter.getCurrentTestResult();
+        if (current == null) {
+            return get(fixture, UNSCOPED, null);
+        }
+        return get(fixture, fixture.getScope().scopeId(current), current);
+    }
+
+    /**
+     * Fixture for an explicit scope instance, see {@link FixtureScope#scopeId}.
+     * No lease is taken, so the fixture may be evicted while the caller holds it.
+     */
+    public <T> T get(Fixture<T> fixture, String scopeId) {
+        return get(fixture, scopeId, null);
+    }
+
+    /**
+     * End the leases taken by a finished test or configuration method
+     */
+    public void release(ITestResult result) {
+        Queue<Entry<?>> held = leases.remove(result);
+        if (held != null) {
+            for (Entry<?> entry : held) {
+                entry.users.decrementAndGet();
+            }
+        }
+    }
+
+    private <T> T get(Fixture<T> fixture, String scopeId, ITestResult user) {
+        Fixture<?> definition = definitions.putIfAbsent(fixture.getName(), fixture);
+        if (definition != null && definition != fixture) {
+            throw new IllegalArgumentException("Another fixture is already named '" + fixture.getName() + "'");
+        }
+        FixtureStats fixtureStats = stats.computeIfAbsent(fixture.getName(),
+                name -> new FixtureStats(name, fixture.getScope()));
+        Key key = new Key(fixture, scopeId);
+
+        Entry<T> created = new Entry<>(fixture);
+        @SuppressWarnings("unchecked")
+        Entry<T> entry = (Entry<T>) entries.putIfAbsent(key, created);
+
+        boolean built = entry == null;
+        if (built) {
+            entry = created;
+            build(key, entry, fixtureStats);
+        }
+
+        T value = entry.await();
+        if (!built) {
+            // Callers that waited on a failed build are not hits
+            fixtureStats.recordHit();
+        }
+        if (user != null && fixture.isReadOnly()) {
+            entry.users.incrementAndGet();
+            leases.computeIfAbsent(user, result -> new ConcurrentLinkedQueue<>()).add(entry);
+        }
+        entry.lastUsed = System.nanoTime();
+        return fixture.share(value);
+    }
+
+    /**
+     * Tear down and forget every fixture of the given scope instance
+     */
+    public void closeScope(FixtureScope scope, String scopeId) {
+        for (Map.Entry<Key, Entry<?>> mapping : entries.entrySet()) {
+            Key key = mapping.getKey();
+            if (key.matches(scope, scopeId) && entries.remove(key, mapping.getValue())) {
+                mapping.getValue().tearDown();
+            }
+        }
+    }
+
+    /**
+     * Tear down every remaining fixture
+     */
+    public void closeAll() {
+        for (Key key : new ArrayList<>(entries.keySet())) {
+            Entry<?> entry = entries.remove(key);
+            if (entry != null) {
+                entry.tearDown();
+            }
+        }
+    }
+
+    /**
+     * Estimated size of the fixtures currently held, counting only fixtures with a size estimate
+     */
+    public long getHeldBytes() {
+        long total = 0;
+        for (Entry<?> entry : entries.values()) {
+            if (entry.future.isDone()) {
+                total += entry.sizeBytes;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Build and reuse statistics per fixture name
+     */
+    public List<FixtureStats> getStats() {
+        List<FixtureStats> result = new ArrayList<>(stats.values());
+        result.sort(Comparator.comparing(FixtureStats::getName));
+        return result;
+    }
+
+    private <T> void build(Key key, Entry<T> entry, FixtureStats fixtureStats) {
+        long start = System.nanoTime();
+        try {
+            T value = entry.fixture.create();
+            entry.sizeBytes = entry.fixture.estimateSize(value);
+            entry.future.complete(value);
+            fixtureStats.recordBuild(System.nanoTime() - start);
+        } catch (Throwable t) {
+            // Let the next caller retry instead of caching the failure
+            entries.remove(key, entry);
+            entry.future.completeExceptionally(t);
+            return;
+        }
+        enforceBudget(key);
+    }
+
+    private synchronized void enforceBudget(Key justBuilt) {
+        long total = 0;
+        List<Map.Entry<Key, Entry<?>>> evictable = new ArrayList<>();
+        for (Map.Entry<Key, Entry<?>> mapping : entries.entrySet()) {
+            Entry<?> entry = mapping.getValue();
+            if (entry.future.isDone() && entry.sizeBytes > 0) {
+                total += entry.sizeBytes;
+                if (!mapping.getKey().equals(justBuilt) && entry.users.get() == 0 && !entry.fixture.hasTeardown()) {
+                    evictable.add(mapping);
+                }
+            }
+        }
+
+        evictable.sort(Comparator.comparingLong(mapping -> mapping.getValue().lastUsed));
+        for (Map.Entry<Key, Entry<?>> mapping : evictable) {
+            if (total <= budgetBytes) {
+                break;
+            }
+            Entry<?> entry = mapping.getValue();
+            if (entries.remove(mapping.getKey(), entry)) {
+                total -= entry.sizeBytes;
+                stats.get(entry.fixture.getName()).recordEviction();
+            }
+        }
+    }
+
+    private static final class Key {
+        private final Fixture<?> fixture;
+        private final FixtureScope scope;
+        private final String scopeId;
+
+        Key(Fixture<?> fixture, String scopeId) {
+            this.fixture = fixture;
+            this.scope = fixture.getScope();
+            this.scopeId = scopeId;
+        }
+
+        boolean matches(FixtureScope scope, String scopeId) {
+            return this.scope == scope && this.scopeId.equals(scopeId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return fixture == other.fixture && scopeId.equals(other.scopeId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(fixture), scopeId);
+        }
+    }
+
+    private static final class Entry<T> {
+        private final Fixture<T> fixture;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final AtomicInteger users = new AtomicInteger();
+        private volatile long sizeBytes;
+        private volatile long lastUsed = System.nanoTime();
+
+        Entry(Fixture<T> fixture) {
+            this.fixture = fixture;
+        }
+
+        T await() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                throw new IllegalStateException("Failed to build fixture '" + fixture.getName() + "'", e.getCause());
+            }
+        }
+
+        void tearDown() {
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                return;
+            }
+            try {
+                fixture.tearDown(future.join());
+            } catch (Exception e) {
+                System.err.println("Error tearing down fixture '" + fixture.getName() + "': " + e.getMessage());
+            }
+        }
+    }
+}
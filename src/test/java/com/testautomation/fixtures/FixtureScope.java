@@ -0,0 +1,39 @@
+package com.testautomation.fixtures;
+
+import org.testng.ITestResult;
+
+/**
+ * Lifetime of a shared fixture. A fixture is built once per scope instance
+ * and torn down when that instance ends.
+ */
+public enum FixtureScope {
+    /** One instance per suite, torn down when the suite finishes */
+    SUITE,
+    /** One instance per {@code <test>}, torn down when the test finishes */
+    TEST,
+    /** One instance per test class, torn down after the class */
+    CLASS;
+
+    /**
+     * Identifier of the scope instance for the given suite, test and class names
+     */
+    public String scopeId(String suiteName, String testName, String className) {
+        switch (this) {
+            case SUITE:
+                return suiteName;
+            case TEST:
+                return suiteName + "/" + testName;
+            default:
+                return suiteName + "/" + testName + "/" + className;
+        }
+    }
+
+    /**
+     * Identifier of the scope instance the given test method runs in
+     */
+    public String scopeId(ITestResult result) {
+        return scopeId(result.getTestContext().getSuite().getName(),
+                result.getTestContext().getName(),
+                result.getTestClass().getName());
+    }
+}
@@ -0,0 +1,60 @@
+package com.testautomation.fixtures;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Build and reuse counters of a fixture, aggregated over all its scope instances
+ */
+public class FixtureStats {
+    private final String name;
+    private final FixtureScope scope;
+    private final LongAdder builds = new LongAdder();
+    private final LongAdder buildNanos = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    FixtureStats(String name, FixtureScope scope) {
+        this.name = name;
+        this.scope = scope;
+    }
+
+    void recordBuild(long nanos) {
+        builds.increment();
+        buildNanos.add(nanos);
+    }
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    public String getName() { return name; }
+
+    public FixtureScope getScope() { return scope; }
+
+    public long getBuilds() { return builds.sum(); }
+
+    public long getHits() { return hits.sum(); }
+
+    public long getEvictions() { return evictions.sum(); }
+
+    public long getTotalBuildMillis() {
+        return buildNanos.sum() / 1_000_000L;
+    }
+
+    public double getHitRate() {
+        long requests = getBuilds() + getHits();
+        return requests > 0 ? (double) getHits() / requests : 0;
+    }
+
+    /**
+     * Estimated setup time avoided by reusing the fixture instead of rebuilding it
+     */
+    public long getSavedMillis() {
+        long count = getBuilds();
+        return count > 0 ? getHits() * getTotalBuildMillis() / count : 0;
+    }
+}
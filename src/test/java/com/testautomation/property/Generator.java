@@ -0,0 +1,27 @@
+package com.testautomation.property;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Produces random test cases for a property and knows how to shrink them
+ *
+ * @param <T> type of the generated value
+ */
+public interface Generator<T> {
+    
+    /**
+     * Generate a new value from the given random source
+     */
+    T generate(SplittableRandom random);
+    
+    /**
+     * Candidate values that are strictly "smaller" than the given value,
+     * ordered from most to least aggressive. Shrinking tries them in order
+     * and keeps the first one that still fails the property.
+     */
+    default List<T> shrink(T value) {
+        return Collections.emptyList();
+    }
+}
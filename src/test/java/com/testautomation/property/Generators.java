@@ -0,0 +1,241 @@
+package com.testautomation.property;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Built-in generators for ints, strings and int arrays.
+ * Every generator is biased towards edge cases and shrinks deterministically.
+ */
+public final class Generators {
+
+    // Values that break naive arithmetic far more often than random ones
+    private static final int[] INT_EDGE_CASES = {
+        0, 1, -1, 2, -2, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE - 1, Integer.MIN_VALUE + 1
+    };
+
+    // Code points with unusual case mappings (length-changing, locale-sensitive, supplementary)
+    private static final int[] UNICODE_EDGE_CASES = {
+        0x00DF, // ß -> SS
+        0x0130, // İ -> i̇
+        0x0131, // ı
+        0x017F, // ſ (long s)
+        0x03A3, // Σ (final sigma)
+        0x1E9E, // ẞ
+        0xFB01, // ﬁ ligature
+        0x0149, // ŉ
+        0x10400, // 𐐀 Deseret (supplementary, has case mapping)
+        0x1F600, // 😀
+        0x0000,
+        0x00A0 // no-break space
+    };
+
+    private static final int EDGE_CASE_ODDS = 8;
+
+    private Generators() {
+    }
+
+    /**
+     * Integers over the full range, biased towards overflow boundaries
+     */
+    public static Generator<Integer> ints() {
+        return ints(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Integers in the inclusive range [min, max]
+     */
+    public static Generator<Integer> ints(int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException("min " + min + " is greater than max " + max);
+        }
+        return new Generator<Integer>() {
+            @Override
+            public Integer generate(SplittableRandom random) {
+                if (random.nextInt(EDGE_CASE_ODDS) == 0) {
+                    int edge = INT_EDGE_CASES[random.nextInt(INT_EDGE_CASES.length)];
+                    if (edge >= min && edge <= max) {
+                        return edge;
+                    }
+                }
+                return (int) random.nextLong(min, (long) max + 1);
+            }
+
+            @Override
+            public List<Integer> shrink(Integer value) {
+                return shrinkInt(value, shrinkTarget(min, max));
+            }
+        };
+    }
+
+    /**
+     * Strings of up to {@code maxCodePoints} code points mixing ASCII,
+     * Latin-1, random BMP characters and code points with tricky case mappings
+     */
+    public static Generator<String> strings(int maxCodePoints) {
+        if (maxCodePoints < 0) {
+            throw new IllegalArgumentException("maxCodePoints must not be negative: " + maxCodePoints);
+        }
+        return new Generator<String>() {
+            @Override
+            public String generate(SplittableRandom random) {
+                int length = random.nextInt(maxCodePoints + 1);
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i < length; i++) {
+                    sb.appendCodePoint(randomCodePoint(random));
+                }
+                return sb.toString();
+            }
+
+            @Override
+            public List<String> shrink(String value) {
+                return shrinkString(value);
+            }
+        };
+    }
+
+    /**
+     * Arrays of {@code minLength} to {@code maxLength} elements drawn from the given element generator
+     */
+    public static Generator<int[]> intArrays(int minLength, int maxLength, Generator<Integer> elements) {
+        if (minLength < 0 || minLength > maxLength) {
+            throw new IllegalArgumentException("Invalid length range [" + minLength + ", " + maxLength + "]");
+        }
+        return new Generator<int[]>() {
+            @Override
+            public int[] generate(SplittableRandom random) {
+                int[] array = new int[random.nextInt(minLength, maxLength + 1)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = elements.generate(random);
+                }
+                return array;
+            }
+
+            @Override
+            public List<int[]> shrink(int[] value) {
+                List<int[]> candidates = shrinkArray(value, elements);
+                candidates.removeIf(candidate -> candidate.length < minLength);
+                return candidates;
+            }
+        };
+    }
+
+    /**
+     * Arrays of up to {@code maxLength} elements over the full int range
+     */
+    public static Generator<int[]> intArrays(int maxLength) {
+        return intArrays(0, maxLength, ints());
+    }
+
+    /**
+     * Arrays of exactly two ints over the full range, for binary operations
+     */
+    public static Generator<int[]> intPairs() {
+        return intArrays(2, 2, ints());
+    }
+
+    private static int shrinkTarget(int min, int max) {
+        if (min > 0) {
+            return min;
+        }
+        return Math.min(max, 0);
+    }
+
+    /**
+     * Candidates target, value - d/2, value - d/4, ..., value - 1 (moving towards target),
+     * so greedy shrinking converges in a logarithmic number of steps
+     */
+    static List<Integer> shrinkInt(int value, int target) {
+        List<Integer> candidates = new ArrayList<>();
+        long distance = (long) value - target;
+        while (distance != 0) {
+            candidates.add((int) (value - distance));
+            distance /= 2;
+        }
+        return candidates;
+    }
+
+    private static List<String> shrinkString(String value) {
+        int[] codePoints = value.codePoints().toArray();
+        if (codePoints.length == 0) {
+            return new ArrayList<>();
+        }
+        Set<String> candidates = new LinkedHashSet<>();
+        candidates.add("");
+
+        // Drop halves first, then single code points
+        int half = codePoints.length / 2;
+        if (half > 0) {
+            candidates.add(new String(codePoints, half, codePoints.length - half));
+            candidates.add(new String(codePoints, 0, codePoints.length - half));
+        }
+        for (int i = 0; i < codePoints.length; i++) {
+            int[] removed = new int[codePoints.length - 1];
+            System.arraycopy(codePoints, 0, removed, 0, i);
+            System.arraycopy(codePoints, i + 1, removed, i, removed.length - i);
+            candidates.add(new String(removed, 0, removed.length));
+        }
+
+        // Simplify individual code points to plain 'a'
+        for (int i = 0; i < codePoints.length; i++) {
+            if (codePoints[i] != 'a') {
+                int[] replaced = codePoints.clone();
+                replaced[i] = 'a';
+                candidates.add(new String(replaced, 0, replaced.length));
+            }
+        }
+        candidates.remove(value);
+        return new ArrayList<>(candidates);
+    }
+
+    private static List<int[]> shrinkArray(int[] value, Generator<Integer> elements) {
+        List<int[]> candidates = new ArrayList<>();
+        if (value.length == 0) {
+            return candidates;
+        }
+        candidates.add(new int[0]);
+
+        int half = value.length / 2;
+        if (half > 0) {
+            candidates.add(Arrays.copyOfRange(value, half, value.length));
+            candidates.add(Arrays.copyOfRange(value, 0, value.length - half));
+        }
+        for (int i = 0; i < value.length; i++) {
+            int[] removed = new int[value.length - 1];
+            System.arraycopy(value, 0, removed, 0, i);
+            System.arraycopy(value, i + 1, removed, i, removed.length - i);
+            candidates.add(removed);
+        }
+
+        // Shrink each element in place, keeping the length
+        for (int i = 0; i < value.length; i++) {
+            for (Integer smaller : elements.shrink(value[i])) {
+                int[] replaced = value.clone();
+                replaced[i] = smaller;
+                candidates.add(replaced);
+            }
+        }
+        return candidates;
+    }
+
+    private static int randomCodePoint(SplittableRandom random) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return UNICODE_EDGE_CASES[random.nextInt(UNICODE_EDGE_CASES.length)];
+            case 1:
+                return random.nextInt(0x20, 0x7F);
+            case 2:
+                return random.nextInt(0xA0, 0x180);
+            default:
+                int codePoint;
+                do {
+                    codePoint = random.nextInt(0x20, 0x10000);
+                } while (Character.isSurrogate((char) codePoint));
+                return codePoint;
+        }
+    }
+}
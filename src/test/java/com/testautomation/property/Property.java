@@ -0,0 +1,13 @@
+package com.testautomation.property;
+
+/**
+ * A property that must hold for every generated value.
+ * The property fails when it throws, typically via a TestNG assertion.
+ *
+ * @param <T> type of the checked value
+ */
+@FunctionalInterface
+public interface Property<T> {
+    
+    void check(T value) throws Exception;
+}
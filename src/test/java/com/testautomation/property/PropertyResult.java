@@ -0,0 +1,79 @@
+package com.testautomation.property;
+
+/**
+ * Outcome of checking a single property, kept for the custom report
+ */
+public class PropertyResult {
+
+    /**
+     * Worker index of a result without counterexample
+     */
+    public static final int NO_WORKER = -1;
+
+    private final String name;
+    private final long seed;
+    private final int parallelism;
+    private final int worker;
+    private final long cases;
+    private final long elapsedMillis;
+    private final String originalCounterexample;
+    private final String shrunkCounterexample;
+    private final int shrinkSteps;
+    private final Throwable failure;
+
+    PropertyResult(String name, long seed, int parallelism, int worker, long cases, long elapsedMillis,
+                   String originalCounterexample, String shrunkCounterexample, int shrinkSteps, Throwable failure) {
+        this.name = name;
+        this.seed = seed;
+        this.parallelism = parallelism;
+        this.worker = worker;
+        this.cases = cases;
+        this.elapsedMillis = elapsedMillis;
+        this.originalCounterexample = originalCounterexample;
+        this.shrunkCounterexample = shrunkCounterexample;
+        this.shrinkSteps = shrinkSteps;
+        this.failure = failure;
+    }
+
+    public String getName() { return name; }
+
+    public long getSeed() { return seed; }
+
+    public int getParallelism() { return parallelism; }
+
+    /**
+     * Index of the worker whose stream produced the counterexample, or {@link #NO_WORKER}
+     */
+    public int getWorker() { return worker; }
+
+    public long getCases() { return cases; }
+
+    public long getElapsedMillis() { return elapsedMillis; }
+
+    public String getOriginalCounterexample() { return originalCounterexample; }
+
+    public String getShrunkCounterexample() { return shrunkCounterexample; }
+
+    public int getShrinkSteps() { return shrinkSteps; }
+
+    public Throwable getFailure() { return failure; }
+
+    public boolean isPassed() {
+        return failure == null;
+    }
+
+    /**
+     * System properties replaying the stream of the worker that found the counterexample
+     */
+    public String getReplayOptions() {
+        if (isPassed()) {
+            return "";
+        }
+        return String.format("-D%s=%d -D%s=1 -D%s=%d", PropertyRunner.SEED_PROPERTY, seed,
+                PropertyRunner.PARALLELISM_PROPERTY, PropertyRunner.WORKER_PROPERTY, worker);
+    }
+
+    public double getCasesPerSecond() {
+        return elapsedMillis > 0 ? cases * 1000.0 / elapsedMillis : cases;
+    }
+}
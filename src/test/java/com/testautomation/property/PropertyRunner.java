@@ -0,0 +1,282 @@
+package com.testautomation.property;
+
+import org.testng.Reporter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Property-based test runner for TestNG tests.
+ * <p>
+ * Cases are generated in parallel on a fork/join pool until the time budget
+ * is spent or a counterexample is found. Counterexamples are shrunk greedily
+ * and deterministically, then reported through a TestNG assertion failure.
+ * <p>
+ * Each worker draws cases from its own stream, derived from the seed and the
+ * worker index only. The reported counterexample comes from whichever worker
+ * failed first, so a failure is reproduced by replaying that worker's stream
+ * alone with {@code -Dproperty.parallelism=1 -Dproperty.worker=<index>}.
+ * <p>
+ * Configuration (system properties):
+ * <ul>
+ *     <li>{@code property.seed} - base seed, random when not set</li>
+ *     <li>{@code property.budget.ms} - time budget per property (default 250)</li>
+ *     <li>{@code property.parallelism} - worker count (default: available processors)</li>
+ *     <li>{@code property.worker} - index of the first worker (default 0)</li>
+ * </ul>
+ */
+public class PropertyRunner {
+
+    public static final String SEED_PROPERTY = "property.seed";
+    public static final String BUDGET_PROPERTY = "property.budget.ms";
+    public static final String PARALLELISM_PROPERTY = "property.parallelism";
+    public static final String WORKER_PROPERTY = "property.worker";
+
+    private static final long DEFAULT_BUDGET_MS = 250;
+    private static final int MAX_SHRINK_STEPS = 1000;
+
+    private static final Queue<PropertyResult> RESULTS = new ConcurrentLinkedQueue<>();
+
+    private final long seed;
+    private final long budgetMillis;
+    private final int parallelism;
+    private final int firstWorker;
+
+    public PropertyRunner(long seed, long budgetMillis, int parallelism) {
+        this(seed, budgetMillis, parallelism, 0);
+    }
+
+    /**
+     * Runner using the streams of workers {@code firstWorker} to
+     * {@code firstWorker + parallelism - 1}
+     */
+    public PropertyRunner(long seed, long budgetMillis, int parallelism, int firstWorker) {
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("Time budget must be positive: " + budgetMillis);
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        if (firstWorker < 0) {
+            throw new IllegalArgumentException("Worker index must not be negative: " + firstWorker);
+        }
+        this.seed = seed;
+        this.budgetMillis = budgetMillis;
+        this.parallelism = parallelism;
+        this.firstWorker = firstWorker;
+    }
+
+    /**
+     * Runner configured from system properties
+     */
+    public static PropertyRunner fromSystemProperties() {
+        String seedValue = System.getProperty(SEED_PROPERTY);
+        long seed = seedValue != null ? Long.parseLong(seedValue) : System.nanoTime();
+        long budget = Long.getLong(BUDGET_PROPERTY, DEFAULT_BUDGET_MS);
+        int parallelism = Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors());
+        int firstWorker = Integer.getInteger(WORKER_PROPERTY, 0);
+        return new PropertyRunner(seed, budget, parallelism, firstWorker);
+    }
+
+    /**
+     * Check a property with the runner configured from system properties
+     */
+    public static <T> PropertyResult forAll(String name, Generator<T> generator, Property<T> property) {
+        return fromSystemProperties().check(name, generator, property);
+    }
+
+    /**
+     * Results of every property checked in this JVM, in completion order
+     */
+    public static List<PropertyResult> getResults() {
+        return new ArrayList<>(RESULTS);
+    }
+
+    /**
+     * Check the property, throwing an {@link AssertionError} with the shrunk
+     * counterexample when it is falsified
+     */
+    public <T> PropertyResult check(String name, Generator<T> generator, Property<T> property) {
+        PropertyResult result = evaluate(name, generator, property);
+        RESULTS.add(result);
+
+        if (result.isPassed()) {
+            Reporter.log(String.format("Property '%s' passed %d cases (%.0f cases/s, seed %d, %d workers)",
+                    name, result.getCases(), result.getCasesPerSecond(), seed, parallelism));
+            return result;
+        }
+
+        String message = String.format(
+                "Property '%s' falsified after %d cases (seed %d, worker %d of %d): shrunk counterexample %s "
+                        + "(original %s, %d shrink steps); replay with %s",
+                name, result.getCases(), seed, result.getWorker(), parallelism, result.getShrunkCounterexample(),
+                result.getOriginalCounterexample(), result.getShrinkSteps(), result.getReplayOptions());
+        Reporter.log(message);
+        throw new AssertionError(message, result.getFailure());
+    }
+
+    /**
+     * Check the property without recording or throwing
+     */
+    public <T> PropertyResult evaluate(String name, Generator<T> generator, Property<T> property) {
+        long start = System.nanoTime();
+        long deadline = start + budgetMillis * 1_000_000L;
+        AtomicReference<Counterexample<T>> counterexample = new AtomicReference<>();
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long cases;
+        try {
+            cases = pool.invoke(new CaseSearch<>(generator, property, firstWorker, firstWorker + parallelism,
+                    deadline, counterexample));
+        } finally {
+            pool.shutdown();
+        }
+
+        Counterexample<T> found = counterexample.get();
+        if (found == null) {
+            long elapsed = (System.nanoTime() - start) / 1_000_000L;
+            return new PropertyResult(name, seed, parallelism, PropertyResult.NO_WORKER, cases, elapsed,
+                    null, null, 0, null);
+        }
+
+        // Cases/s covers the search only, shrinking is reported separately
+        long elapsed = (found.foundAtNanos - start) / 1_000_000L;
+        Counterexample<T> shrunk = shrink(generator, property, found);
+        return new PropertyResult(name, seed, parallelism, found.worker, cases, elapsed,
+                describe(found.value), describe(shrunk.value), shrunk.shrinkSteps, shrunk.failure);
+    }
+
+    private <T> Counterexample<T> shrink(Generator<T> generator, Property<T> property, Counterexample<T> original) {
+        T current = original.value;
+        Throwable failure = original.failure;
+        int steps = 0;
+        boolean progress = true;
+
+        while (progress && steps < MAX_SHRINK_STEPS) {
+            progress = false;
+            for (T candidate : generator.shrink(current)) {
+                Throwable candidateFailure = run(property, candidate);
+                if (candidateFailure != null) {
+                    current = candidate;
+                    failure = candidateFailure;
+                    steps++;
+                    progress = true;
+                    break;
+                }
+            }
+        }
+
+        Counterexample<T> shrunk = new Counterexample<>(current, failure, original.worker, original.foundAtNanos);
+        shrunk.shrinkSteps = steps;
+        return shrunk;
+    }
+
+    private static <T> Throwable run(Property<T> property, T value) {
+        try {
+            property.check(value);
+            return null;
+        } catch (Throwable t) {
+            return t;
+        }
+    }
+
+    /**
+     * Printable form of a generated value; strings are escaped so
+     * invisible and non-ASCII code points show up in reports
+     */
+    static String describe(Object value) {
+        if (value instanceof int[]) {
+            return Arrays.toString((int[]) value);
+        }
+        if (value instanceof String) {
+            StringBuilder sb = new StringBuilder("\"");
+            ((String) value).codePoints().forEach(cp -> {
+                if (cp >= 0x20 && cp < 0x7F && cp != '"' && cp != '\\') {
+                    sb.appendCodePoint(cp);
+                } else {
+                    sb.append(String.format("\\u{%X}", cp));
+                }
+            });
+            return sb.append('"').toString();
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * Splits the worker range in halves until a single worker remains,
+     * which then generates cases from its own split of the seed
+     */
+    private final class CaseSearch<T> extends RecursiveTask<Long> {
+        private final Generator<T> generator;
+        private final Property<T> property;
+        private final int fromWorker;
+        private final int toWorker;
+        private final long deadline;
+        private final AtomicReference<Counterexample<T>> counterexample;
+
+        CaseSearch(Generator<T> generator, Property<T> property, int fromWorker, int toWorker,
+                   long deadline, AtomicReference<Counterexample<T>> counterexample) {
+            this.generator = generator;
+            this.property = property;
+            this.fromWorker = fromWorker;
+            this.toWorker = toWorker;
+            this.deadline = deadline;
+            this.counterexample = counterexample;
+        }
+
+        @Override
+        protected Long compute() {
+            if (toWorker - fromWorker > 1) {
+                int middle = (fromWorker + toWorker) >>> 1;
+                CaseSearch<T> left = new CaseSearch<>(generator, property, fromWorker, middle, deadline, counterexample);
+                CaseSearch<T> right = new CaseSearch<>(generator, property, middle, toWorker, deadline, counterexample);
+                left.fork();
+                long rightCases = right.compute();
+                return left.join() + rightCases;
+            }
+            return search();
+        }
+
+        private long search() {
+            SplittableRandom random = new SplittableRandom(seed ^ (0x9E3779B97F4A7C15L * (fromWorker + 1)));
+            long cases = 0;
+            while (counterexample.get() == null) {
+                // Checked before every case: a slow property would overrun the budget by a whole batch
+                if (System.nanoTime() >= deadline) {
+                    break;
+                }
+                T value = generator.generate(random);
+                cases++;
+                Throwable failure = run(property, value);
+                if (failure != null) {
+                    counterexample.compareAndSet(null,
+                            new Counterexample<>(value, failure, fromWorker, System.nanoTime()));
+                    break;
+                }
+            }
+            return cases;
+        }
+    }
+
+    private static final class Counterexample<T> {
+        private final T value;
+        private final Throwable failure;
+        private final int worker;
+        private final long foundAtNanos;
+        private int shrinkSteps;
+
+        Counterexample(T value, Throwable failure, int worker, long foundAtNanos) {
+            this.value = value;
+            this.failure = failure;
+            this.worker = worker;
+            this.foundAtNanos = foundAtNanos;
+        }
+    }
+}
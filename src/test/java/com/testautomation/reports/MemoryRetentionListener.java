@@ -0,0 +1,203 @@
+package com.testautomation.reports;
+
+import com.testautomation.fixtures.FixtureRegistry;
+import org.testng.IClassListener;
+import org.testng.ITestClass;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Opt-in TestNG listener that measures the live heap retained by each test class.
+ * <p>
+ * Before and after every test class the heap is collected and the post-GC usage
+ * of all heap memory pools is recorded. Classes that retain more than the
+ * threshold are flagged in the custom report, optionally with a class histogram.
+ * Measurements are only meaningful when test classes run sequentially.
+ * <p>
+ * Shared fixtures built during a class outlive it by design, so the growth of
+ * the estimated bytes held by the {@link FixtureRegistry} is subtracted from
+ * the retained heap. Fixtures without a size estimate are not subtracted.
+ * <p>
+ * Configuration (system properties):
+ * <ul>
+ *     <li>{@code memory.retention} - enable the listener (default false)</li>
+ *     <li>{@code memory.retention.threshold.mb} - retained heap that flags a class (default 16)</li>
+ *     <li>{@code memory.retention.histogram} - capture a heap histogram for flagged classes (default false)</li>
+ * </ul>
+ */
+public class MemoryRetentionListener implements IClassListener {
+
+    public static final String ENABLED_PROPERTY = "memory.retention";
+    public static final String THRESHOLD_PROPERTY = "memory.retention.threshold.mb";
+    public static final String HISTOGRAM_PROPERTY = "memory.retention.histogram";
+
+    private static final long DEFAULT_THRESHOLD_MB = 16;
+    private static final int GC_PASSES = 3;
+    private static final int HISTOGRAM_LINES = 40;
+
+    private static final Queue<ClassRetention> RESULTS = new ConcurrentLinkedQueue<>();
+
+    private final FixtureRegistry fixtures;
+    private final Queue<ClassRetention> results;
+    private final boolean enabled;
+    private final long thresholdBytes;
+    private final boolean histogram;
+    private final Map<String, Long> heapBefore = new ConcurrentHashMap<>();
+    private final Map<String, Long> fixtureBytesBefore = new ConcurrentHashMap<>();
+
+    public MemoryRetentionListener() {
+        this(FixtureRegistry.getDefault(), RESULTS, isEnabled(),
+                Long.getLong(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD_MB) * 1024 * 1024,
+                Boolean.getBoolean(HISTOGRAM_PROPERTY));
+    }
+
+    /**
+     * Listener measuring against the given fixture registry and recording into {@code results},
+     * configured explicitly instead of from system properties
+     */
+    public MemoryRetentionListener(FixtureRegistry fixtures, Queue<ClassRetention> results,
+                                   boolean enabled, long thresholdBytes, boolean histogram) {
+        this.fixtures = fixtures;
+        this.results = results;
+        this.enabled = enabled;
+        this.thresholdBytes = thresholdBytes;
+        this.histogram = histogram;
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * Retention measured for every test class, in completion order
+     */
+    public static List<ClassRetention> getResults() {
+        return new ArrayList<>(RESULTS);
+    }
+
+    @Override
+    public void onBeforeClass(ITestClass testClass) {
+        if (!enabled) {
+            return;
+        }
+        heapBefore.put(testClass.getName(), measureLiveHeap());
+        fixtureBytesBefore.put(testClass.getName(), fixtures.getHeldBytes());
+    }
+
+    @Override
+    public void onAfterClass(ITestClass testClass) {
+        Long before = heapBefore.remove(testClass.getName());
+        Long fixturesBefore = fixtureBytesBefore.remove(testClass.getName());
+        if (!enabled || before == null || fixturesBefore == null) {
+            return;
+        }
+
+        long after = measureLiveHeap();
+
+        ClassRetention retention = new ClassRetention();
+        retention.setClassName(testClass.getName());
+        retention.setHeapBefore(before);
+        retention.setHeapAfter(after);
+        retention.setFixtureBytes(fixtures.getHeldBytes() - fixturesBefore);
+        retention.setFlagged(retention.getRetained() > thresholdBytes);
+
+        if (retention.isFlagged()) {
+            System.err.println("Memory retention: " + testClass.getName() + " retained "
+                    + retention.getFormattedRetained() + " of live heap");
+            if (histogram) {
+                retention.setHistogram(captureHistogram());
+            }
+        }
+        results.add(retention);
+    }
+
+    /**
+     * Live heap after forcing collection: the post-GC usage of every heap pool
+     */
+    private static long measureLiveHeap() {
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < GC_PASSES; i++) {
+            memoryBean.gc();
+        }
+
+        long live = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() != MemoryType.HEAP) {
+                continue;
+            }
+            MemoryUsage usage = pool.getCollectionUsage();
+            live += usage != null ? usage.getUsed() : pool.getUsage().getUsed();
+        }
+        return live > 0 ? live : memoryBean.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Top of the class histogram (same as {@code jcmd <pid> GC.class_histogram})
+     */
+    private static String captureHistogram() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName diagnostics = new ObjectName("com.sun.management:type=DiagnosticCommand");
+            String histogram = (String) server.invoke(diagnostics, "gcClassHistogram",
+                    new Object[] {new String[0]}, new String[] {String[].class.getName()});
+
+            String[] lines = histogram.split("\n");
+            return String.join("\n", Arrays.copyOf(lines, Math.min(lines.length, HISTOGRAM_LINES)));
+        } catch (Exception e) {
+            return "Heap histogram unavailable: " + e.getMessage();
+        }
+    }
+
+    // Inner class for data structure
+    public static class ClassRetention {
+        private String className;
+        private long heapBefore;
+        private long heapAfter;
+        private long fixtureBytes;
+        private boolean flagged;
+        private String histogram;
+
+        // Getters and setters
+        public String getClassName() { return className; }
+        public void setClassName(String className) { this.className = className; }
+
+        public long getHeapBefore() { return heapBefore; }
+        public void setHeapBefore(long heapBefore) { this.heapBefore = heapBefore; }
+
+        public long getHeapAfter() { return heapAfter; }
+        public void setHeapAfter(long heapAfter) { this.heapAfter = heapAfter; }
+
+        public long getFixtureBytes() { return fixtureBytes; }
+        public void setFixtureBytes(long fixtureBytes) { this.fixtureBytes = fixtureBytes; }
+
+        public boolean isFlagged() { return flagged; }
+        public void setFlagged(boolean flagged) { this.flagged = flagged; }
+
+        public String getHistogram() { return histogram; }
+        public void setHistogram(String histogram) { this.histogram = histogram; }
+
+        /**
+         * Live heap growth not explained by shared fixtures built during the class
+         */
+        public long getRetained() {
+            return heapAfter - heapBefore - fixtureBytes;
+        }
+
+        public String getFormattedRetained() {
+            return formatBytes(getRetained());
+        }
+
+        public static String formatBytes(long bytes) {
+            return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+        }
+    }
+}
@@ -3,6 +3,10 @@ package com.testautomation.tests;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import com.testautomation.fixtures.FixtureRegistry;
+import com.testautomation.property.Generators;
+import com.testautomation.property.PropertyRunner;
+
 import java.util.Arrays;
 
 /**
@@ -105,4 +109,66 @@ public class ArrayTest {
         Assert.assertFalse(Arrays.equals(array1, array3), 
             "Array equality test failed: different arrays should not be equal");
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Regression test: Verify sorting yields an ordered permutation of any array
+     */
+    @Test(groups = {"regression", "array", "property"})
+    public void testSortingIsOrderedPermutation() {
+        PropertyRunner.forAll("sort is an ordered permutation", Generators.intArrays(64), original -> {
+            int[] sorted = Arrays.copyOf(original, original.length);
+            Arrays.sort(sorted);
+            
+            for (int i = 1; i < sorted.length; i++) {
+                Assert.assertTrue(sorted[i - 1] <= sorted[i],
+                    "Array sorting test failed: element " + i + " is out of order");
+            }
+            for (int value : original) {
+                Assert.assertTrue(Arrays.binarySearch(sorted, value) >= 0,
+                    "Array sorting test failed: " + value + " is missing after sorting");
+            }
+            Assert.assertEquals(Arrays.stream(sorted).asLongStream().sum(), Arrays.stream(original).asLongStream().sum(),
+                "Array sorting test failed: sorting should not change the elements");
+        });
+    }
+    
+    /**
+     * Regression test: Verify a copy equals its original for any array
+     */
+    @Test(groups = {"regression", "array", "property"})
+    public void testCopyEqualsOriginal() {
+        PropertyRunner.forAll("copy equals original", Generators.intArrays(64), original -> {
+            int[] copy = Arrays.copyOf(original, original.length);
+            Assert.assertTrue(Arrays.equals(copy, original),
+                "Array copy test failed: copy should be identical to original");
+        });
+    }
+    
+    /**
+     * Regression test: Verify sorting a large shared random array
+     */
+    @Test(groups = {"regression", "array", "fixtures"})
+    public void testLargeArraySorting() {
+        int[] numbers = FixtureRegistry.getDefault().get(SharedFixtures.RANDOM_ARRAY);
+        int[] expectedSorted = FixtureRegistry.getDefault().get(SharedFixtures.SORTED_ARRAY);
+        
+        Arrays.sort(numbers);
+        
+        Assert.assertEquals(numbers, expectedSorted, 
+            "Large array sorting test failed: array should be sorted in ascending order");
+    }
+    
+    /**
+     * Regression test: Verify searching a large shared sorted array
+     */
+    @Test(groups = {"regression", "array", "fixtures"})
+    public void testLargeArraySearch() {
+        int[] sorted = FixtureRegistry.getDefault().get(SharedFixtures.SORTED_ARRAY);
+        
+        for (int index = 0; index < sorted.length; index += 9973) {
+            int actualIndex = Arrays.binarySearch(sorted, sorted[index]);
+            Assert.assertEquals(sorted[actualIndex], sorted[index], 
+                "Large array search test failed: " + sorted[index] + " should be found");
+        }
+    }
+}
\ No newline at end of file
@@ -3,6 +3,10 @@ package com.testautomation.tests;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import com.testautomation.fixtures.FixtureRegistry;
+import com.testautomation.property.Generators;
+import com.testautomation.property.PropertyRunner;
+
 /**
  * Test class for calculator functionality
  * Contains smoke and regression test cases
@@ -95,4 +99,64 @@ public class CalculatorTest {
         Assert.assertEquals(actualResult, expectedResult, 
             "Negative number test failed: " + a + " + " + b + " should equal " + expectedResult);
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Regression test: Verify addition is commutative for all ints, including overflow
+     */
+    @Test(groups = {"regression", "calculator", "property"})
+    public void testAdditionIsCommutative() {
+        PropertyRunner.forAll("addition is commutative", Generators.intPairs(), pair -> {
+            int a = pair[0];
+            int b = pair[1];
+            Assert.assertEquals(a + b, b + a,
+                "Addition commutativity failed for " + a + " and " + b);
+        });
+    }
+    
+    /**
+     * Regression test: Verify subtraction undoes addition even when the sum overflows
+     */
+    @Test(groups = {"regression", "calculator", "property"})
+    public void testSubtractionUndoesAddition() {
+        PropertyRunner.forAll("(a + b) - b == a", Generators.intPairs(), pair -> {
+            int a = pair[0];
+            int b = pair[1];
+            Assert.assertEquals((a + b) - b, a,
+                "Subtraction test failed: (" + a + " + " + b + ") - " + b + " should equal " + a);
+        });
+    }
+    
+    /**
+     * Regression test: Verify exact absolute value only overflows at Integer.MIN_VALUE
+     */
+    @Test(groups = {"regression", "calculator", "property"})
+    public void testAbsoluteValueOverflow() {
+        PropertyRunner.forAll("absExact overflows only at MIN_VALUE", Generators.ints(), a -> {
+            if (a == Integer.MIN_VALUE) {
+                Assert.assertThrows(ArithmeticException.class, () -> Math.absExact(a));
+            } else {
+                Assert.assertTrue(Math.absExact(a) >= 0,
+                    "Absolute value test failed: |" + a + "| should not be negative");
+            }
+        });
+    }
+    
+    /**
+     * Regression test: Verify addition is order independent over a large shared array
+     */
+    @Test(groups = {"regression", "calculator", "fixtures"})
+    public void testLargeSumIsOrderIndependent() {
+        int[] random = FixtureRegistry.getDefault().get(SharedFixtures.RANDOM_ARRAY);
+        int[] sorted = FixtureRegistry.getDefault().get(SharedFixtures.SORTED_ARRAY);
+        
+        long expectedResult = 0;
+        long actualResult = 0;
+        for (int i = 0; i < random.length; i++) {
+            expectedResult += random[i];
+            actualResult += sorted[i];
+        }
+        
+        Assert.assertEquals(actualResult, expectedResult, 
+            "Large sum test failed: sum should not depend on element order");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,143 @@
+package com.testautomation.tests;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.testautomation.cache.ClassFingerprint;
+import com.testautomation.fixtures.FixtureScope;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Test class for the bytecode fingerprint behind the test result cache
+ * Contains regression test cases for constant pool parsing and change detection
+ */
+public class ClassFingerprintTest {
+
+    /**
+     * Regression test: Verify class references are found past long/double constants and lambdas
+     */
+    @Test(groups = {"regression", "cache"})
+    public void testReferencedClassesWithWideConstantsAndLambdas() throws IOException {
+        Set<String> references = ClassFingerprint.referencedClasses(bytecodeOf(ConstantPoolSample.class));
+
+        Assert.assertTrue(references.contains("java/util/ArrayList"), "Class created in a lambda should be referenced");
+        Assert.assertTrue(references.contains("java/util/function/Supplier"), "Field descriptor type should be referenced");
+        Assert.assertTrue(references.contains("java/util/function/Function"), "Field descriptor type should be referenced");
+        Assert.assertTrue(references.contains("com/testautomation/fixtures/FixtureScope"),
+            "Parsing test failed: class referenced after long/double constants should be found");
+        Assert.assertTrue(references.contains("java/lang/StringBuilder"),
+            "Class referenced from a lambda body should be found");
+    }
+
+    /**
+     * Regression test: Verify the fingerprint changes with a transitive dependency only
+     */
+    @Test(groups = {"regression", "cache"})
+    public void testFingerprintTracksTransitiveDependencies() throws Exception {
+        Path root = Files.createTempDirectory("fingerprint");
+        try {
+            for (Class<?> type : Arrays.asList(FingerprintRoot.class, FingerprintMiddle.class,
+                    FingerprintLeaf.class, FingerprintUnrelated.class)) {
+                Path target = root.resolve(type.getName().replace('.', '/') + ".class");
+                Files.createDirectories(target.getParent());
+                Files.write(target, bytecodeOf(type));
+            }
+
+            String original = fingerprint(root);
+            Assert.assertEquals(fingerprint(root), original, "Unchanged classes should keep their fingerprint");
+
+            replaceConstant(root, FingerprintUnrelated.class, "unrelated-v1", "unrelated-v2");
+            Assert.assertEquals(fingerprint(root), original, "Unreferenced class should not change the fingerprint");
+
+            replaceConstant(root, FingerprintLeaf.class, "leaf-v1", "leaf-v2");
+            Assert.assertNotEquals(fingerprint(root), original,
+                "Fingerprint test failed: changing a transitive dependency should change the fingerprint");
+        } finally {
+            deleteRecursively(root);
+        }
+    }
+
+    private static String fingerprint(Path root) throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {root.toUri().toURL()},
+                ClassLoader.getPlatformClassLoader())) {
+            return ClassFingerprint.of(loader.loadClass(FingerprintRoot.class.getName()));
+        }
+    }
+
+    private static void replaceConstant(Path root, Class<?> type, String from, String to) throws IOException {
+        Path file = root.resolve(type.getName().replace('.', '/') + ".class");
+        byte[] bytecode = Files.readAllBytes(file);
+        byte[] search = from.getBytes(StandardCharsets.UTF_8);
+        byte[] replacement = to.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i <= bytecode.length - search.length; i++) {
+            if (Arrays.equals(bytecode, i, i + search.length, search, 0, search.length)) {
+                System.arraycopy(replacement, 0, bytecode, i, replacement.length);
+                Files.write(file, bytecode);
+                return;
+            }
+        }
+        Assert.fail("Constant " + from + " not found in " + type.getName());
+    }
+
+    private static byte[] bytecodeOf(Class<?> type) throws IOException {
+        String resource = "/" + type.getName().replace('.', '/') + ".class";
+        try (InputStream in = type.getResourceAsStream(resource)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static void deleteRecursively(Path root) throws IOException {
+        List<Path> paths = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            files.forEach(paths::add);
+        }
+        for (int i = paths.size() - 1; i >= 0; i--) {
+            Files.deleteIfExists(paths.get(i));
+        }
+    }
+
+    // Long and double constants take two constant pool slots each
+    static class ConstantPoolSample {
+        long big = 9_876_543_210L;
+        double ratio = 2.718281828;
+        long other = -1_234_567_890_123L;
+        double small = 1e-300;
+        Supplier<List<String>> factory = () -> new ArrayList<>();
+        Function<String, String> twice = s -> new StringBuilder(s).append(s).toString();
+        FixtureScope scope = FixtureScope.SUITE;
+    }
+
+    static class FingerprintRoot {
+        String describe() {
+            return new FingerprintMiddle().describe();
+        }
+    }
+
+    static class FingerprintMiddle {
+        String describe() {
+            return FingerprintLeaf.NAME.substring(0);
+        }
+    }
+
+    static class FingerprintLeaf {
+        static String NAME = "leaf-v1";
+    }
+
+    static class FingerprintUnrelated {
+        static String NAME = "unrelated-v1";
+    }
+}
@@ -0,0 +1,182 @@
+package com.testautomation.tests;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.testautomation.concurrency.AdaptiveLimiter;
+import com.testautomation.concurrency.ConcurrencyController;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Test class for the adaptive concurrency controller
+ * Contains regression test cases for the AIMD policy, latency baselines and the limiter
+ */
+public class ConcurrencyControllerTest {
+
+    /**
+     * Regression test: Verify concurrency grows by one while tests are queued
+     */
+    @Test(groups = {"regression", "concurrency"})
+    public void testAdditiveIncreaseWhenContended() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(4);
+        ConcurrencyController controller = new ConcurrencyController(limiter, 1, 8, 250);
+
+        int next = controller.adjust(0.3, 1.0, 0.0, true);
+
+        Assert.assertEquals(next, 5, "Additive increase test failed: limit should grow by one");
+        Assert.assertEquals(limiter.getLimit(), 5, "Limiter should apply the new limit");
+    }
+
+    /**
+     * Regression test: Verify concurrency stays put when nothing is queued
+     */
+    @Test(groups = {"regression", "concurrency"})
+    public void testNoChangeWithoutDemand() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(4);
+        ConcurrencyController controller = new ConcurrencyController(limiter, 1, 8, 250);
+
+        Assert.assertEquals(controller.adjust(0.3, 1.0, 0.0, false), 4,
+            "Limit should not change without queued tests or congestion");
+        Assert.assertEquals(controller.getHistory().size(), 0, "Unchanged limits should not be recorded");
+    }
+
+    /**
+     * Regression test: Verify concurrency does not grow while the CPU is saturated
+     */
+    @Test(groups = {"regression", "concurrency"})
+    public void testNoIncreaseWhenCpuSaturated() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(4);
+        ConcurrencyController controller = new ConcurrencyController(limiter, 1, 8, 250);
+
+        Assert.assertEquals(controller.adjust(0.95, 1.0, 0.0, true), 4,
+            "Limit should hold while the CPU is saturated");
+    }
+
+    /**
+     * Regression test: Verify concurrency halves on latency inflation or GC pressure
+     */
+    @Test(groups = {"regression", "concurrency"})
+    public void testMultiplicativeDecreaseOnCongestion() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(8);
+        ConcurrencyController controller = new ConcurrencyController(limiter, 1, 8, 250);
+
+        Assert.assertEquals(controller.adjust(0.3, 2.0, 0.0, true), 4, "Latency inflation should halve the limit");
+        Assert.assertEquals(controller.adjust(0.3, 1.0, 0.5, true), 2, "GC pressure should halve the limit");
+        Assert.assertEquals(controller.getHistory().size(), 2, "Every change should be recorded");
+    }
+
+    /**
+     * Regression test: Verify the limit never leaves the configured bounds
+     */
+    @Test(groups = {"regression", "concurrency"})
+    public void testLimitStaysWithinBounds() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(3);
+        ConcurrencyController controller = new ConcurrencyController(limiter, 2, 3, 250);
+
+        Assert.assertEquals(controller.adjust(0.3, 1.0, 0.0, true), 3, "Limit should not exceed the upper bound");
+        Assert.assertEquals(controller.adjust(0.3, 3.0, 0.0, true), 2, "Limit should drop to the lower bound");
+        Assert.assertEquals(controller.adjust(0.3, 3.0, 0.0, true), 2, "Limit should not go below the lower bound");
+    }
+
+    /**
+     * Regression test: Verify acquires block after the limit is lowered below the held permits
+     */
+    @Test(groups = {"regression", "concurrency"})
+    public void testLimiterBlocksAfterLimitLowered() throws Exception {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(3);
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire();
+        }
+        limiter.setLimit(1);
+        limiter.release();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> waiter = executor.submit(() -> {
+                limiter.acquire();
+                return null;
+            });
+            Assert.assertThrows(TimeoutException.class, () -> waiter.get(200, TimeUnit.MILLISECONDS));
+
+            limiter.release();
+            Assert.assertThrows(TimeoutException.class, () -> waiter.get(200, TimeUnit.MILLISECONDS));
+            Assert.assertTrue(limiter.pollContended(), "Blocked acquire should be reported as contention");
+
+            limiter.release();
+            waiter.get(5, TimeUnit.SECONDS);
+            Assert.assertEquals(limiter.getActive(), 1, "Waiter should hold the only permit");
+            Assert.assertFalse(limiter.pollContended(), "Contention should be cleared once polled and served");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Regression test: Verify mixing fast and slow tests does not collapse the limit
+     */
+    @Test(groups = {"regression", "concurrency"})
+    public void testMixedLatenciesKeepLimit() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(4);
+        ConcurrencyController controller = new ConcurrencyController(limiter, 1, 8, 250);
+
+        for (int interval = 0; interval < 30; interval++) {
+            double jitter = 1 + 0.1 * Math.sin(interval);
+            controller.recordLatency("UnitTest.fast", (long) (200_000 * jitter));
+            if (interval % 3 == 0) {
+                controller.recordLatency("PropertyTest.budgeted", (long) (250_000_000 * jitter));
+            }
+            if (interval % 5 == 0) {
+                controller.recordLatency("BrowserTest.login", (long) (2_000_000_000L * jitter));
+            }
+            controller.sample(0.3, 0.0);
+        }
+
+        Assert.assertEquals(limiter.getLimit(), 4,
+            "Baseline test failed: slow tests should only be compared with their own latency");
+        Assert.assertEquals(controller.getHistory().size(), 0, "Limit should never have changed");
+    }
+
+    /**
+     * Regression test: Verify a test slowing down against its own baseline halves the limit
+     */
+    @Test(groups = {"regression", "concurrency"})
+    public void testMethodSlowdownHalvesLimit() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(4);
+        ConcurrencyController controller = new ConcurrencyController(limiter, 1, 8, 250);
+
+        controller.recordLatency("BrowserTest.login", 100_000_000L);
+        Assert.assertEquals(controller.sample(0.3, 0.0), 4, "First completion should only set the baseline");
+
+        controller.recordLatency("BrowserTest.login", 300_000_000L);
+        controller.recordLatency("UnitTest.fast", 50_000L);
+        Assert.assertEquals(controller.sample(0.3, 0.0), 2, "Tripled latency should halve the limit");
+    }
+
+    /**
+     * Regression test: Verify the baseline re-learns a permanent slowdown and carries over between runs
+     */
+    @Test(groups = {"regression", "concurrency"})
+    public void testBaselineRelearnsPermanentSlowdown() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(8);
+        ConcurrencyController controller = new ConcurrencyController(limiter, 1, 8, 250);
+        controller.loadBaselines(Map.of("BrowserTest.login", 100_000_000.0));
+
+        int limit = 0;
+        for (int interval = 0; interval < 20; interval++) {
+            controller.recordLatency("BrowserTest.login", 300_000_000L);
+            limit = controller.sample(0.3, 0.0);
+        }
+        controller.recordLatency("BrowserTest.login", 300_000_000L);
+
+        Assert.assertEquals(controller.sample(0.3, 0.0), limit,
+            "Re-learning test failed: a permanent slowdown should stop cutting the limit");
+        Assert.assertTrue(controller.getBaselines().get("BrowserTest.login") > 250_000_000.0,
+            "Baseline should move towards the new latency");
+    }
+}
@@ -0,0 +1,293 @@
+package com.testautomation.tests;
+
+import org.testng.Assert;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.testautomation.fixtures.Fixture;
+import com.testautomation.fixtures.FixtureListener;
+import com.testautomation.fixtures.FixtureRegistry;
+import com.testautomation.fixtures.FixtureScope;
+import com.testautomation.fixtures.FixtureStats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for the shared fixture registry
+ * Contains regression test cases for lifecycle, sharing and eviction
+ */
+public class FixtureRegistryTest {
+
+    // Leased by the class setup through the implicit current-method lookup
+    private final FixtureRegistry setUpRegistry = new FixtureRegistry(100);
+    private final Fixture<String> setUpFixture = new Fixture<>("setup data", FixtureScope.CLASS, () -> "setup",
+        null, value -> 60, null);
+    private ITestResult setUpResult;
+
+    @BeforeClass(alwaysRun = true)
+    public void leaseFixtureInSetUp() {
+        setUpRegistry.get(setUpFixture);
+        setUpResult = Reporter.getCurrentTestResult();
+    }
+
+    /**
+     * Regression test: Verify concurrent first use builds a fixture only once
+     */
+    @Test(groups = {"regression", "fixtures"})
+    public void testConcurrentAccessBuildsOnce() throws Exception {
+        FixtureRegistry registry = new FixtureRegistry(1024);
+        AtomicInteger builds = new AtomicInteger();
+        Fixture<Object> fixture = new Fixture<>("slow", FixtureScope.SUITE, () -> {
+            builds.incrementAndGet();
+            Thread.sleep(100);
+            return new Object();
+        });
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return registry.get(fixture, "suite");
+                }));
+            }
+            start.countDown();
+            Object first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Object> result : results) {
+                Assert.assertSame(result.get(5, TimeUnit.SECONDS), first, "All callers should share one instance");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(builds.get(), 1, "Single-flight test failed: fixture should be built once");
+        FixtureStats stats = registry.getStats().get(0);
+        Assert.assertEquals(stats.getBuilds(), 1L, "Stats should record one build");
+        Assert.assertEquals(stats.getHits(), (long) threads - 1, "Stats should record the other callers as hits");
+    }
+
+    /**
+     * Regression test: Verify mutable fixtures are copied and read-only fixtures are shared
+     */
+    @Test(groups = {"regression", "fixtures"})
+    public void testMutableFixturesAreCopied() {
+        FixtureRegistry registry = new FixtureRegistry(1024);
+        Fixture<int[]> mutable = new Fixture<>("mutable", FixtureScope.CLASS, () -> new int[] {3, 1, 2},
+            null, null, int[]::clone);
+        Fixture<int[]> readOnly = new Fixture<>("read-only", FixtureScope.CLASS, () -> new int[] {3, 1, 2});
+
+        int[] copy = registry.get(mutable, "class");
+        copy[0] = 99;
+        Assert.assertEquals(registry.get(mutable, "class")[0], 3, "Changing a copy should not change the fixture");
+        Assert.assertSame(registry.get(readOnly, "class"), registry.get(readOnly, "class"),
+            "Read-only fixtures should be shared without copying");
+    }
+
+    /**
+     * Regression test: Verify least recently used fixtures are evicted over the memory budget
+     */
+    @Test(groups = {"regression", "fixtures"})
+    public void testEvictionOverMemoryBudget() {
+        FixtureRegistry registry = new FixtureRegistry(100);
+        Fixture<String> first = new Fixture<>("first", FixtureScope.SUITE, () -> "first", null, value -> 60, null);
+        Fixture<String> second = new Fixture<>("second", FixtureScope.SUITE, () -> "second", null, value -> 60, null);
+
+        registry.get(first, "suite");
+        registry.get(second, "suite");
+
+        Assert.assertEquals(statsOf(registry, "first").getEvictions(), 1L,
+            "Eviction test failed: least recently used fixture should be evicted");
+        registry.get(first, "suite");
+        Assert.assertEquals(statsOf(registry, "first").getBuilds(), 2L, "Evicted fixture should be rebuilt on next use");
+    }
+
+    /**
+     * Regression test: Verify fixtures with a teardown are kept until their scope ends
+     */
+    @Test(groups = {"regression", "fixtures"})
+    public void testFixtureWithTeardownIsNotEvicted() {
+        FixtureRegistry registry = new FixtureRegistry(100);
+        List<String> tornDown = new ArrayList<>();
+        Fixture<String> server = new Fixture<>("stub server", FixtureScope.SUITE, () -> "server",
+            tornDown::add, value -> 60, null);
+        Fixture<String> dataset = new Fixture<>("dataset", FixtureScope.SUITE, () -> "dataset",
+            null, value -> 60, null);
+
+        registry.get(server, "suite");
+        registry.get(dataset, "suite");
+        registry.get(server, "suite");
+
+        Assert.assertEquals(statsOf(registry, "stub server").getEvictions(), 0L,
+            "Teardown test failed: fixture with a teardown should not be evicted");
+        Assert.assertEquals(statsOf(registry, "stub server").getBuilds(), 1L, "Fixture should be built once");
+        Assert.assertTrue(tornDown.isEmpty(), "Fixture should be torn down only at the end of its scope");
+
+        registry.closeScope(FixtureScope.SUITE, "suite");
+        Assert.assertEquals(tornDown, List.of("server"), "Scope end should tear down the fixture");
+    }
+
+    /**
+     * Regression test: Verify repeated eviction and rebuild keeps held memory within the budget
+     */
+    @Test(groups = {"regression", "fixtures"})
+    public void testHeldBytesStayWithinBudget() {
+        FixtureRegistry registry = new FixtureRegistry(100);
+        Fixture<String> server = new Fixture<>("stub server", FixtureScope.SUITE, () -> "server",
+            value -> { }, value -> 30, null);
+        Fixture<String> first = new Fixture<>("first", FixtureScope.SUITE, () -> "first", null, value -> 60, null);
+        Fixture<String> second = new Fixture<>("second", FixtureScope.SUITE, () -> "second", null, value -> 60, null);
+
+        registry.get(server, "suite");
+        for (int i = 0; i < 50; i++) {
+            registry.get(i % 2 == 0 ? first : second, "suite");
+            Assert.assertTrue(registry.getHeldBytes() <= 100,
+                "Budget test failed: held " + registry.getHeldBytes() + " bytes on a budget of 100");
+        }
+        Assert.assertEquals(statsOf(registry, "first").getEvictions(), 25L, "Alternating fixtures should evict each other");
+        Assert.assertEquals(statsOf(registry, "stub server").getBuilds(), 1L, "Fixture with a teardown should be kept");
+    }
+
+    /**
+     * Regression test: Verify a read-only fixture leased by a running test is not evicted
+     */
+    @Test(groups = {"regression", "fixtures"})
+    public void testLeasedFixtureIsNotEvicted() {
+        FixtureRegistry registry = new FixtureRegistry(100);
+        String suite = FixtureScope.SUITE.scopeId(Reporter.getCurrentTestResult());
+        Fixture<String> accounts = new Fixture<>("accounts", FixtureScope.SUITE, () -> "accounts",
+            null, value -> 60, null);
+        Fixture<String> dataset = new Fixture<>("dataset", FixtureScope.SUITE, () -> "dataset",
+            null, value -> 60, null);
+        Fixture<String> report = new Fixture<>("report", FixtureScope.SUITE, () -> "report",
+            null, value -> 60, null);
+
+        registry.get(accounts);
+        registry.get(dataset, suite);
+        Assert.assertEquals(statsOf(registry, "accounts").getEvictions(), 0L,
+            "Lease test failed: fixture in use by the running test should not be evicted");
+
+        registry.release(Reporter.getCurrentTestResult());
+        registry.get(report, suite);
+        Assert.assertEquals(statsOf(registry, "accounts").getEvictions(), 1L,
+            "Released fixture should become evictable");
+    }
+
+    /**
+     * Regression test: Verify a fixture leased by a configuration method is released by the listener
+     */
+    @Test(groups = {"regression", "fixtures"})
+    public void testConfigurationLeaseIsReleased() {
+        Assert.assertNotNull(setUpResult, "Class setup should run as the current configuration method");
+        String scope = FixtureScope.CLASS.scopeId(setUpResult);
+        Fixture<String> dataset = new Fixture<>("dataset", FixtureScope.CLASS, () -> "dataset",
+            null, value -> 60, null);
+        Fixture<String> report = new Fixture<>("report", FixtureScope.CLASS, () -> "report",
+            null, value -> 60, null);
+
+        setUpRegistry.get(dataset, scope);
+        Assert.assertEquals(statsOf(setUpRegistry, "setup data").getEvictions(), 0L,
+            "Fixture leased by the class setup should not be evicted");
+
+        new FixtureListener(setUpRegistry).onConfigurationSuccess(setUpResult);
+        setUpRegistry.get(report, scope);
+        Assert.assertEquals(statsOf(setUpRegistry, "setup data").getEvictions(), 1L,
+            "Configuration lease test failed: finished setup should release its lease");
+    }
+
+    /**
+     * Regression test: Verify two fixture definitions cannot share a name
+     */
+    @Test(groups = {"regression", "fixtures"})
+    public void testDuplicateNameIsRejected() {
+        FixtureRegistry registry = new FixtureRegistry(1024);
+        Fixture<String> text = new Fixture<>("data", FixtureScope.SUITE, () -> "text");
+        Fixture<int[]> numbers = new Fixture<>("data", FixtureScope.SUITE, () -> new int[] {1, 2, 3});
+
+        Assert.assertEquals(registry.get(text, "suite"), "text");
+        Assert.assertThrows(IllegalArgumentException.class, () -> registry.get(numbers, "suite"));
+        Assert.assertEquals(registry.get(text, "suite"), "text", "Registered fixture should keep its value");
+    }
+
+    /**
+     * Regression test: Verify callers waiting on a failed build are not counted as hits
+     */
+    @Test(groups = {"regression", "fixtures"})
+    public void testWaitersOnFailedBuildAreNotHits() throws Exception {
+        FixtureRegistry registry = new FixtureRegistry(1024);
+        Fixture<Object> broken = new Fixture<>("broken", FixtureScope.SUITE, () -> {
+            Thread.sleep(100);
+            throw new IllegalStateException("database unavailable");
+        });
+
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return registry.get(broken, "suite");
+                }));
+            }
+            start.countDown();
+            for (Future<Object> result : results) {
+                Assert.assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(statsOf(registry, "broken").getHits(), 0L,
+            "Hit rate test failed: failed builds should not count as hits");
+    }
+
+    /**
+     * Regression test: Verify closing a scope tears down only its fixtures
+     */
+    @Test(groups = {"regression", "fixtures"})
+    public void testCloseScopeTearsDownFixtures() {
+        FixtureRegistry registry = new FixtureRegistry(1024);
+        List<String> tornDown = new ArrayList<>();
+        Fixture<String> fixture = new Fixture<>("per-class", FixtureScope.CLASS, () -> "value",
+            tornDown::add, null, null);
+
+        registry.get(fixture, "ClassA");
+        registry.get(fixture, "ClassB");
+        registry.closeScope(FixtureScope.CLASS, "ClassA");
+
+        Assert.assertEquals(tornDown.size(), 1, "Only the closed scope should be torn down");
+        registry.get(fixture, "ClassB");
+        Assert.assertEquals(statsOf(registry, "per-class").getBuilds(), 2L, "Open scope should keep its fixture");
+    }
+
+    /**
+     * Regression test: Verify a failed build is not cached
+     */
+    @Test(groups = {"regression", "fixtures"})
+    public void testFailedBuildIsRetried() {
+        FixtureRegistry registry = new FixtureRegistry(1024);
+        AtomicInteger attempts = new AtomicInteger();
+        Fixture<String> flaky = new Fixture<>("flaky", FixtureScope.SUITE, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("stub server not ready");
+            }
+            return "ready";
+        });
+
+        Assert.assertThrows(IllegalStateException.class, () -> registry.get(flaky, "suite"));
+        Assert.assertEquals(registry.get(flaky, "suite"), "ready", "Second attempt should build the fixture");
+    }
+
+    private FixtureStats statsOf(FixtureRegistry registry, String name) {
+        return registry.getStats().stream().filter(s -> s.getName().equals(name)).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,127 @@
+package com.testautomation.tests;
+
+import org.testng.Assert;
+import org.testng.ITestClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.testautomation.fixtures.Fixture;
+import com.testautomation.fixtures.FixtureRegistry;
+import com.testautomation.fixtures.FixtureScope;
+import com.testautomation.reports.MemoryRetentionListener;
+import com.testautomation.reports.MemoryRetentionListener.ClassRetention;
+
+import java.lang.reflect.Proxy;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Test class for the per-class heap retention listener
+ * Contains regression test cases for flagging retained allocations
+ * Methods share the recorded results, so they run single-threaded. Listeners under test are
+ * configured through their constructor, never through the system properties of the real listener
+ */
+@Test(singleThreaded = true)
+public class MemoryRetentionListenerTest {
+
+    private static final int ALLOCATION_BYTES = 32 * 1024 * 1024;
+    private static final long THRESHOLD_BYTES = 8 * 1024 * 1024;
+
+    private final Queue<ClassRetention> results = new ConcurrentLinkedQueue<>();
+    private Object retained;
+
+    @BeforeMethod(alwaysRun = true)
+    public void clearResults() {
+        results.clear();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void releaseAllocation() {
+        retained = null;
+    }
+
+    /**
+     * Regression test: Verify a class retaining memory is flagged and a clean class is not
+     */
+    @Test(groups = {"regression", "memory"})
+    public void testRetainedAllocationIsFlagged() {
+        MemoryRetentionListener listener = listener(new FixtureRegistry(1024));
+
+        ITestClass leaking = stubClass("LeakingTest");
+        listener.onBeforeClass(leaking);
+        retained = new byte[ALLOCATION_BYTES];
+        listener.onAfterClass(leaking);
+
+        ITestClass clean = stubClass("CleanTest");
+        listener.onBeforeClass(clean);
+        byte[] temporary = new byte[ALLOCATION_BYTES];
+        Assert.assertEquals(temporary.length, ALLOCATION_BYTES);
+        temporary = null;
+        listener.onAfterClass(clean);
+
+        Assert.assertTrue(retentionOf("LeakingTest").isFlagged(),
+            "Retention test failed: class retaining 32 MB should be flagged, retained "
+                + retentionOf("LeakingTest").getFormattedRetained());
+        Assert.assertFalse(retentionOf("CleanTest").isFlagged(),
+            "Class releasing its allocation should not be flagged, retained "
+                + retentionOf("CleanTest").getFormattedRetained());
+    }
+
+    /**
+     * Regression test: Verify shared fixtures built during a class are not counted as retained
+     */
+    @Test(groups = {"regression", "memory"})
+    public void testSharedFixturesAreNotFlagged() {
+        FixtureRegistry registry = new FixtureRegistry(Long.MAX_VALUE);
+        Fixture<byte[]> fixture = new Fixture<>("large buffer", FixtureScope.SUITE,
+            () -> new byte[ALLOCATION_BYTES], null, buffer -> (long) buffer.length, null);
+        MemoryRetentionListener listener = listener(registry);
+
+        ITestClass first = stubClass("FirstFixtureUser");
+        listener.onBeforeClass(first);
+        registry.get(fixture, "suite");
+        listener.onAfterClass(first);
+
+        ClassRetention retention = retentionOf("FirstFixtureUser");
+        Assert.assertEquals(retention.getFixtureBytes(), (long) ALLOCATION_BYTES,
+            "Fixture bytes built during the class should be recorded");
+        Assert.assertFalse(retention.isFlagged(),
+            "Shared fixture should not be flagged as a leak, retained " + retention.getFormattedRetained());
+        registry.closeAll();
+    }
+
+    /**
+     * Regression test: Verify a disabled listener records nothing
+     */
+    @Test(groups = {"regression", "memory"})
+    public void testDisabledListenerRecordsNothing() {
+        MemoryRetentionListener listener = new MemoryRetentionListener(new FixtureRegistry(1024), results,
+            false, THRESHOLD_BYTES, false);
+
+        ITestClass leaking = stubClass("DisabledTest");
+        listener.onBeforeClass(leaking);
+        retained = new byte[ALLOCATION_BYTES];
+        listener.onAfterClass(leaking);
+
+        Assert.assertTrue(results.isEmpty(), "Disabled listener should not measure classes");
+    }
+
+    private MemoryRetentionListener listener(FixtureRegistry registry) {
+        return new MemoryRetentionListener(registry, results, true, THRESHOLD_BYTES, false);
+    }
+
+    private ClassRetention retentionOf(String className) {
+        return results.stream().filter(r -> r.getClassName().equals(className)).findFirst().orElseThrow();
+    }
+
+    private static ITestClass stubClass(String name) {
+        return (ITestClass) Proxy.newProxyInstance(ITestClass.class.getClassLoader(), new Class<?>[] {ITestClass.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("getName")) {
+                    return name;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
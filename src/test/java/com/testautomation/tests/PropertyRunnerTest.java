@@ -0,0 +1,122 @@
+package com.testautomation.tests;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.testautomation.property.Generators;
+import com.testautomation.property.PropertyResult;
+import com.testautomation.property.PropertyRunner;
+
+/**
+ * Test class for the property-based testing engine itself
+ * Contains regression test cases for generation and shrinking
+ */
+public class PropertyRunnerTest {
+
+    /**
+     * Regression test: Verify a falsified int property shrinks to the boundary value
+     */
+    @Test(groups = {"regression", "property"})
+    public void testIntCounterexampleShrinksToBoundary() {
+        PropertyRunner runner = new PropertyRunner(42L, 1000, 2);
+
+        PropertyResult result = runner.evaluate("x < 1000", Generators.ints(0, 1_000_000),
+            x -> Assert.assertTrue(x < 1000));
+
+        Assert.assertFalse(result.isPassed(), "Property x < 1000 should be falsified");
+        Assert.assertEquals(result.getShrunkCounterexample(), "1000",
+            "Shrinking test failed: minimal counterexample should be 1000");
+    }
+
+    /**
+     * Regression test: Verify a falsified array property shrinks to a single element
+     */
+    @Test(groups = {"regression", "property"})
+    public void testArrayCounterexampleShrinksToSingleElement() {
+        PropertyRunner runner = new PropertyRunner(7L, 1000, 2);
+
+        PropertyResult result = runner.evaluate("no element above 50", Generators.intArrays(32),
+            array -> {
+                for (int value : array) {
+                    Assert.assertTrue(value <= 50);
+                }
+            });
+
+        Assert.assertFalse(result.isPassed(), "Property should be falsified");
+        Assert.assertEquals(result.getShrunkCounterexample(), "[51]",
+            "Shrinking test failed: minimal counterexample should be [51]");
+    }
+
+    /**
+     * Regression test: Verify the same seed finds and shrinks the same counterexample
+     */
+    @Test(groups = {"regression", "property"})
+    public void testSameSeedIsDeterministic() {
+        PropertyResult first = new PropertyRunner(1234L, 1000, 1)
+            .evaluate("short strings", Generators.strings(16), s -> Assert.assertTrue(s.length() < 4));
+        PropertyResult second = new PropertyRunner(1234L, 1000, 1)
+            .evaluate("short strings", Generators.strings(16), s -> Assert.assertTrue(s.length() < 4));
+
+        Assert.assertEquals(second.getOriginalCounterexample(), first.getOriginalCounterexample(),
+            "Determinism test failed: same seed should find the same counterexample");
+        Assert.assertEquals(second.getShrunkCounterexample(), first.getShrunkCounterexample(),
+            "Determinism test failed: same counterexample should shrink the same way");
+        Assert.assertEquals(first.getShrunkCounterexample(), "\"aaaa\"",
+            "Shrinking test failed: minimal counterexample should be four ASCII characters");
+    }
+
+    /**
+     * Regression test: Verify the failing worker's stream replays the same counterexample on its own
+     */
+    @Test(groups = {"regression", "property"})
+    public void testFailingWorkerReplaysAlone() {
+        PropertyResult parallel = new PropertyRunner(2024L, 1000, 4)
+            .evaluate("x < 900000", Generators.ints(0, 1_000_000), x -> Assert.assertTrue(x < 900_000));
+        Assert.assertFalse(parallel.isPassed(), "Property should be falsified");
+        Assert.assertTrue(parallel.getWorker() >= 0 && parallel.getWorker() < 4,
+            "Result should name the worker that found the counterexample");
+        Assert.assertTrue(parallel.getReplayOptions().endsWith("-Dproperty.worker=" + parallel.getWorker()),
+            "Replay options should select the failing worker");
+
+        PropertyResult replay = new PropertyRunner(2024L, 1000, 1, parallel.getWorker())
+            .evaluate("x < 900000", Generators.ints(0, 1_000_000), x -> Assert.assertTrue(x < 900_000));
+
+        Assert.assertEquals(replay.getWorker(), parallel.getWorker(), "Replay should run only the failing worker");
+        Assert.assertEquals(replay.getOriginalCounterexample(), parallel.getOriginalCounterexample(),
+            "Replay test failed: worker stream should reproduce the counterexample");
+    }
+
+    /**
+     * Regression test: Verify a holding property uses its time budget and passes
+     */
+    @Test(groups = {"regression", "property"})
+    public void testPassingPropertyRunsUntilBudget() {
+        PropertyResult result = new PropertyRunner(99L, 100, 2)
+            .evaluate("abs of non-negative is identity", Generators.ints(0, Integer.MAX_VALUE),
+                x -> Assert.assertEquals(Math.abs(x), (int) x));
+
+        Assert.assertTrue(result.isPassed(), "Property should hold");
+        Assert.assertTrue(result.getCases() > 0, "Runner should have generated cases");
+        Assert.assertTrue(result.getElapsedMillis() >= 100, "Runner should use the full time budget");
+    }
+
+    /**
+     * Regression test: Verify a slow property stops at its time budget
+     */
+    @Test(groups = {"regression", "property"})
+    public void testSlowPropertyStopsAtBudget() {
+        PropertyResult result = new PropertyRunner(5L, 100, 1)
+            .evaluate("slow check", Generators.ints(), x -> {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+        Assert.assertTrue(result.isPassed(), "Property should hold");
+        Assert.assertTrue(result.getElapsedMillis() < 300,
+            "Budget test failed: a 50 ms property should stop within one case of the 100 ms budget, took "
+                + result.getElapsedMillis() + " ms");
+    }
+}
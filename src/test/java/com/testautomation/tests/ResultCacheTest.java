@@ -0,0 +1,206 @@
+package com.testautomation.tests;
+
+import org.testng.Assert;
+import org.testng.IMethodInstance;
+import org.testng.ISuite;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import com.testautomation.cache.ResultCache;
+import com.testautomation.cache.ResultCacheListener;
+import com.testautomation.cache.ResultCacheListener.CachedResult;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test class for the test result cache
+ * Contains regression test cases for LRU eviction and cache invalidation
+ * Methods share the cache directory, so they run single-threaded. Listeners under test are
+ * configured through their constructor, never through the system properties of the real listener
+ */
+@Test(singleThreaded = true)
+public class ResultCacheTest {
+
+    private Path directory;
+
+    @BeforeMethod(alwaysRun = true)
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("result-cache");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Regression test: Verify writing evicts the least recently read entry beyond the maximum
+     */
+    @Test(groups = {"regression", "cache"})
+    public void testWriteEvictsLeastRecentlyRead() throws IOException {
+        ResultCache cache = new ResultCache(directory, 2);
+        cache.write("first", Map.of("testA", 10L));
+        cache.write("second", Map.of("testB", 20L));
+        long now = System.currentTimeMillis();
+        Files.setLastModifiedTime(directory.resolve("first.properties"), FileTime.fromMillis(now - 3_000_000));
+        Files.setLastModifiedTime(directory.resolve("second.properties"), FileTime.fromMillis(now - 2_000_000));
+
+        Assert.assertEquals(cache.read("first"), Map.of("testA", 10L), "Stored durations should be read back");
+        cache.write("third", Map.of("testC", 30L));
+
+        Assert.assertTrue(cache.read("second").isEmpty(),
+            "Eviction test failed: least recently read entry should be evicted");
+        Assert.assertEquals(cache.read("first"), Map.of("testA", 10L), "Recently read entry should be kept");
+        Assert.assertEquals(cache.read("third"), Map.of("testC", 30L), "New entry should be kept");
+    }
+
+    /**
+     * Regression test: Verify a method that fails on a later run is dropped from the cache
+     */
+    @Test(groups = {"regression", "cache"})
+    public void testFailedMethodIsDroppedOnFinish() {
+        ResultCache cache = new ResultCache(directory, 10);
+        ITestContext context = stubContext();
+        ITestNGMethod stable = stubMethod("stable");
+        ITestNGMethod flaky = stubMethod("flaky");
+
+        ResultCacheListener firstRun = listener(cache, new ConcurrentLinkedQueue<>(), false, false);
+        Assert.assertEquals(firstRun.intercept(instances(stable, flaky), context).size(), 2, "Nothing is cached yet");
+        firstRun.onTestSuccess(stubResult(stable, context));
+        firstRun.onTestSuccess(stubResult(flaky, context));
+        firstRun.onFinish(stubSuite());
+
+        ResultCacheListener forcedRun = listener(cache, new ConcurrentLinkedQueue<>(), true, false);
+        Assert.assertEquals(forcedRun.intercept(instances(stable, flaky), context).size(), 2,
+            "Forced run should execute every method");
+        forcedRun.onTestSuccess(stubResult(stable, context));
+        forcedRun.onTestFailure(stubResult(flaky, context));
+        forcedRun.onFinish(stubSuite());
+
+        Queue<CachedResult> replayed = new ConcurrentLinkedQueue<>();
+        List<IMethodInstance> toRun = listener(cache, replayed, false, false).intercept(instances(stable, flaky), context);
+
+        Assert.assertEquals(toRun.size(), 1, "Invalidation test failed: failed method should run again");
+        Assert.assertSame(toRun.get(0).getMethod(), flaky, "Failed method should run again");
+        Assert.assertEquals(replayed.size(), 1, "Passing method should be replayed");
+        Assert.assertSame(replayed.peek().getMethod(), stable, "Passing method should be replayed");
+    }
+
+    /**
+     * Regression test: Verify property tests are not replayed without a fixed seed
+     */
+    @Test(groups = {"regression", "cache"})
+    public void testRandomSeedPropertyTestsAreNotCached() {
+        ResultCache cache = new ResultCache(directory, 10);
+        ITestContext context = stubContext();
+        ITestNGMethod property = stubMethod("randomCases", "property");
+
+        ResultCacheListener firstRun = listener(cache, new ConcurrentLinkedQueue<>(), false, false);
+        firstRun.intercept(instances(property), context);
+        firstRun.onTestSuccess(stubResult(property, context));
+        firstRun.onFinish(stubSuite());
+
+        List<IMethodInstance> toRun = listener(cache, new ConcurrentLinkedQueue<>(), false, false)
+            .intercept(instances(property), context);
+        Assert.assertEquals(toRun.size(), 1, "Property test with a random seed should run on every run");
+    }
+
+    /**
+     * Regression test: Verify property tests with a fixed seed are replayed
+     */
+    @Test(groups = {"regression", "cache"})
+    public void testFixedSeedPropertyTestsAreCached() {
+        ResultCache cache = new ResultCache(directory, 10);
+        ITestContext context = stubContext();
+        ITestNGMethod property = stubMethod("seededCases", "property");
+
+        ResultCacheListener firstRun = listener(cache, new ConcurrentLinkedQueue<>(), false, true);
+        firstRun.intercept(instances(property), context);
+        firstRun.onTestSuccess(stubResult(property, context));
+        firstRun.onFinish(stubSuite());
+
+        List<IMethodInstance> toRun = listener(cache, new ConcurrentLinkedQueue<>(), false, true)
+            .intercept(instances(property), context);
+        Assert.assertTrue(toRun.isEmpty(), "Property test with a fixed seed should be replayed");
+    }
+
+    private static ResultCacheListener listener(ResultCache cache, Queue<CachedResult> replayed,
+                                                boolean force, boolean seedFixed) {
+        return new ResultCacheListener(cache, replayed, true, force, seedFixed);
+    }
+
+    private static List<IMethodInstance> instances(ITestNGMethod... methods) {
+        List<IMethodInstance> instances = new ArrayList<>();
+        for (ITestNGMethod method : methods) {
+            instances.add(stub(IMethodInstance.class, Map.of("getMethod", method)));
+        }
+        return instances;
+    }
+
+    private static ITestNGMethod stubMethod(String name, String... groups) {
+        return stub(ITestNGMethod.class, Map.of(
+            "getMethodName", name,
+            "getRealClass", CachedSubject.class,
+            "getGroups", groups,
+            "getMethodsDependedUpon", new String[0],
+            "getGroupsDependedUpon", new String[0]));
+    }
+
+    private static ITestContext stubContext() {
+        XmlTest xmlTest = new XmlTest(new XmlSuite());
+        xmlTest.setName("cache test");
+        return stub(ITestContext.class, Map.of("getName", "cache test", "getCurrentXmlTest", xmlTest));
+    }
+
+    private static ITestResult stubResult(ITestNGMethod method, ITestContext context) {
+        return stub(ITestResult.class, Map.of(
+            "getMethod", method,
+            "getTestContext", context,
+            "getStartMillis", 100L,
+            "getEndMillis", 105L));
+    }
+
+    private static ISuite stubSuite() {
+        // ISuite cannot be proxied without Guice on the classpath, and the listener never reads it
+        return null;
+    }
+
+    private static <T> T stub(Class<T> type, Map<String, Object> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+            (proxy, method, args) -> {
+                if (answers.containsKey(method.getName())) {
+                    return answers.get(method.getName());
+                }
+                if (method.getName().equals("hashCode")) {
+                    return System.identityHashCode(proxy);
+                }
+                if (method.getName().equals("equals")) {
+                    return proxy == args[0];
+                }
+                throw new UnsupportedOperationException(method.getName());
+            }));
+    }
+
+    // Test class whose bytecode keys the stubbed methods
+    static class CachedSubject {
+    }
+}
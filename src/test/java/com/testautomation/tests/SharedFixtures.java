@@ -0,0 +1,48 @@
+package com.testautomation.tests;
+
+import com.testautomation.fixtures.Fixture;
+import com.testautomation.fixtures.FixtureRegistry;
+import com.testautomation.fixtures.FixtureScope;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Expensive test data shared by CalculatorTest, StringTest and ArrayTest.
+ * Each fixture is built once per suite through the default {@link FixtureRegistry}.
+ */
+public final class SharedFixtures {
+
+    public static final int LARGE_ARRAY_SIZE = 1_000_000;
+    public static final int LARGE_TEXT_WORDS = 100_000;
+
+    /**
+     * Random ints; mutable, so every caller receives its own copy
+     */
+    public static final Fixture<int[]> RANDOM_ARRAY = new Fixture<>("random int array", FixtureScope.SUITE,
+        () -> new SplittableRandom(42).ints(LARGE_ARRAY_SIZE).toArray(),
+        null, array -> 4L * array.length, int[]::clone);
+
+    /**
+     * The random ints in ascending order; read-only and shared without copying
+     */
+    public static final Fixture<int[]> SORTED_ARRAY = new Fixture<>("sorted int array", FixtureScope.SUITE,
+        () -> {
+            int[] sorted = FixtureRegistry.getDefault().get(RANDOM_ARRAY);
+            Arrays.sort(sorted);
+            return sorted;
+        },
+        null, array -> 4L * array.length, null);
+
+    /**
+     * Space separated words "word0 word1 ..."; read-only
+     */
+    public static final Fixture<String> LARGE_TEXT = new Fixture<>("large text", FixtureScope.SUITE,
+        () -> IntStream.range(0, LARGE_TEXT_WORDS).mapToObj(i -> "word" + i).collect(Collectors.joining(" ")),
+        null, text -> 2L * text.length(), null);
+
+    private SharedFixtures() {
+    }
+}
@@ -3,6 +3,12 @@ package com.testautomation.tests;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import com.testautomation.fixtures.FixtureRegistry;
+import com.testautomation.property.Generators;
+import com.testautomation.property.PropertyRunner;
+
+import java.util.Locale;
+
 /**
  * Test class for string manipulation functionality
  * Contains smoke and regression test cases
@@ -93,4 +99,68 @@ public class StringTest {
         Assert.assertEquals(actualResult, expectedResult, 
             "String trim test failed: " + testString + " should become " + expectedResult);
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Regression test: Verify concatenation length for arbitrary Unicode strings
+     */
+    @Test(groups = {"regression", "string", "property"})
+    public void testConcatenationLength() {
+        PropertyRunner.forAll("concatenation adds lengths", Generators.strings(32), s -> {
+            String doubled = s + s;
+            Assert.assertEquals(doubled.length(), 2 * s.length(),
+                "String concatenation length test failed for " + s);
+        });
+    }
+    
+    /**
+     * Regression test: Verify trim is idempotent for arbitrary Unicode strings
+     */
+    @Test(groups = {"regression", "string", "property"})
+    public void testTrimIsIdempotent() {
+        PropertyRunner.forAll("trim is idempotent", Generators.strings(32), s -> {
+            String trimmed = s.trim();
+            Assert.assertEquals(trimmed.trim(), trimmed,
+                "String trim test failed: trimming twice should equal trimming once");
+        });
+    }
+    
+    /**
+     * Regression test: Verify lowercase conversion is idempotent, including
+     * code points whose case mapping changes the string length
+     */
+    @Test(groups = {"regression", "string", "property"})
+    public void testToLowerCaseIsIdempotent() {
+        PropertyRunner.forAll("toLowerCase is idempotent", Generators.strings(32), s -> {
+            String lower = s.toLowerCase(Locale.ROOT);
+            Assert.assertEquals(lower.toLowerCase(Locale.ROOT), lower,
+                "String toLowerCase test failed: lowercasing twice should equal lowercasing once");
+        });
+    }
+    
+    /**
+     * Regression test: Verify splitting a large shared text into words
+     */
+    @Test(groups = {"regression", "string", "fixtures"})
+    public void testLargeTextSplit() {
+        String text = FixtureRegistry.getDefault().get(SharedFixtures.LARGE_TEXT);
+        
+        String[] words = text.split(" ");
+        
+        Assert.assertEquals(words.length, SharedFixtures.LARGE_TEXT_WORDS, 
+            "Large text split test failed: text should have " + SharedFixtures.LARGE_TEXT_WORDS + " words");
+        Assert.assertEquals(words[words.length - 1], "word" + (SharedFixtures.LARGE_TEXT_WORDS - 1), 
+            "Large text split test failed: last word should be preserved");
+    }
+    
+    /**
+     * Regression test: Verify searching a large shared text
+     */
+    @Test(groups = {"regression", "string", "fixtures"})
+    public void testLargeTextContains() {
+        String text = FixtureRegistry.getDefault().get(SharedFixtures.LARGE_TEXT);
+        String searchString = "word" + (SharedFixtures.LARGE_TEXT_WORDS / 2);
+        
+        Assert.assertTrue(text.contains(searchString), 
+            "Large text contains test failed: text should contain " + searchString);
+    }
+}
\ No newline at end of file